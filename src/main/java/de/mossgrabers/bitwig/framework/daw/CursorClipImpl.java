@@ -33,11 +33,21 @@ public class CursorClipImpl implements INoteClip
     private int                      numSteps;
     private int                      numRows;
 
-    private final IStepInfo [] [] [] launcherData;
+    private final NoteStepData []    launcherData;
+
+    // Index of the note data, updated with each incoming step: the number of notes in each row,
+    // bit sets of the rows which contain notes (per channel and of all channels) and the number of
+    // starting and continuing notes at each step
+    private final int [] []          rowNoteCounts;
+    private final long [] []         rowOccupancy;
+    private final long []            allRowOccupancy = new long [2];
+    private final int [] []          stepStartCounts;
+    private final int [] []          stepContinueCounts;
     private PinnableCursorClip       launcherClip;
     private int                      editPage = 0;
     private double                   stepLength;
     private final GridStep           editStep = new GridStep ();
+    private int                      revision = 0;
 
 
     /**
@@ -58,7 +68,11 @@ public class CursorClipImpl implements INoteClip
         this.numRows = numRows;
         this.stepLength = 1.0 / 4.0; // 16th
 
-        this.launcherData = new IStepInfo [16] [this.numSteps] [];
+        this.launcherData = new NoteStepData [16];
+        this.rowNoteCounts = new int [16] [this.numRows];
+        this.rowOccupancy = new long [16] [2];
+        this.stepStartCounts = new int [16] [this.numSteps];
+        this.stepContinueCounts = new int [16] [this.numSteps];
 
         // TODO Bugfix required: https://github.com/teotigraphix/Framework4Bitwig/issues/140
         this.launcherClip = cursorTrack.createLauncherCursorClip (this.numSteps, this.numRows);
@@ -80,6 +94,12 @@ public class CursorClipImpl implements INoteClip
         this.launcherClip.isPinned ().markInterested ();
 
         this.launcherClip.getTrack ().canHoldNoteData ().markInterested ();
+
+        this.launcherClip.getPlayStart ().addValueObserver (value -> this.revision++);
+        this.launcherClip.getPlayStop ().addValueObserver (value -> this.revision++);
+        this.launcherClip.getLoopStart ().addValueObserver (value -> this.revision++);
+        this.launcherClip.getLoopLength ().addValueObserver (value -> this.revision++);
+        this.launcherClip.isLoopEnabled ().addValueObserver (value -> this.revision++);
     }
 
 
@@ -349,6 +369,14 @@ public class CursorClipImpl implements INoteClip
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getRevision ()
+    {
+        return this.revision;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getCurrentStep ()
@@ -363,6 +391,7 @@ public class CursorClipImpl implements INoteClip
     {
         this.stepLength = length;
         this.launcherClip.setStepSize (length);
+        this.revision++;
     }
 
 
@@ -378,18 +407,12 @@ public class CursorClipImpl implements INoteClip
     @Override
     public IStepInfo getStep (final int channel, final int step, final int row)
     {
-        final IStepInfo [] [] [] stepInfos = this.getStepInfos ();
-        try
-        {
-            if (stepInfos[channel][step] == null || stepInfos[channel][step][row] == null)
-                return EmptyStepInfo.INSTANCE;
-            return stepInfos[channel][step][row];
-        }
-        catch (final ArrayIndexOutOfBoundsException ex)
-        {
-            this.host.errorln (ex.getLocalizedMessage ());
+        if (!this.isInRange (channel, step, row))
             return EmptyStepInfo.INSTANCE;
-        }
+        final NoteStepData data = this.getStepData ()[channel];
+        if (data == null)
+            return EmptyStepInfo.INSTANCE;
+        return data.getStep (step, row);
     }
 
 
@@ -413,17 +436,19 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void setStep (final int channel, final int step, final int row, final IStepInfo noteStep)
     {
-        this.setStep (channel, step, row, (int) (noteStep.getVelocity () * 127), 0.25);
+        // The step might be a view which is re-pointed to another step until the task is executed
+        final IStepInfo copy = noteStep.createCopy ();
+        this.setStep (channel, step, row, (int) Math.round (copy.getVelocity () * 127), 0.25);
         this.host.scheduleTask ( () -> {
 
-            this.updateStepVelocity (channel, step, row, noteStep.getVelocity ());
-            this.updateStepDuration (channel, step, row, noteStep.getDuration ());
-            this.updateStepGain (channel, step, row, noteStep.getGain ());
-            this.updateStepPan (channel, step, row, noteStep.getPan ());
-            this.updateStepPressure (channel, step, row, noteStep.getPressure ());
-            this.updateStepReleaseVelocity (channel, step, row, noteStep.getReleaseVelocity ());
-            this.updateStepTimbre (channel, step, row, noteStep.getTimbre ());
-            this.updateStepTranspose (channel, step, row, noteStep.getTranspose ());
+            this.updateStepVelocity (channel, step, row, copy.getVelocity ());
+            this.updateStepDuration (channel, step, row, copy.getDuration ());
+            this.updateStepGain (channel, step, row, copy.getGain ());
+            this.updateStepPan (channel, step, row, copy.getPan ());
+            this.updateStepPressure (channel, step, row, copy.getPressure ());
+            this.updateStepReleaseVelocity (channel, step, row, copy.getReleaseVelocity ());
+            this.updateStepTimbre (channel, step, row, copy.getTimbre ());
+            this.updateStepTranspose (channel, step, row, copy.getTranspose ());
 
         }, 100);
     }
@@ -626,13 +651,9 @@ public class CursorClipImpl implements INoteClip
     @Override
     public boolean hasRowData (final int channel, final int row)
     {
-        final IStepInfo [] [] [] data = this.getStepInfos ();
-        for (int step = 0; step < this.numSteps; step++)
-        {
-            if (data[channel] != null && data[channel][step] != null && data[channel][step][row] != null && data[channel][step][row].getState () > 0)
-                return true;
-        }
-        return false;
+        if (channel < 0 || channel >= 16 || row < 0 || row >= 128)
+            return false;
+        return (this.rowOccupancy[channel][row / 64] & 1L << row % 64) != 0;
     }
 
 
@@ -640,14 +661,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getLowerRowWithData ()
     {
-        int min = 128;
-        for (int channel = 0; channel < 16; channel++)
-        {
-            final int lower = this.getLowerRowWithData (channel);
-            if (lower >= 0 && lower < min)
-                min = lower;
-        }
-        return min == 128 ? -1 : min;
+        return getLowerRow (this.allRowOccupancy);
     }
 
 
@@ -655,14 +669,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getUpperRowWithData ()
     {
-        int max = -1;
-        for (int channel = 0; channel < 16; channel++)
-        {
-            final int upper = this.getUpperRowWithData (channel);
-            if (upper >= 0 && upper > max)
-                max = upper;
-        }
-        return max;
+        return getUpperRow (this.allRowOccupancy);
     }
 
 
@@ -670,10 +677,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getLowerRowWithData (final int channel)
     {
-        for (int row = 0; row < this.numRows; row++)
-            if (this.hasRowData (channel, row))
-                return row;
-        return -1;
+        return getLowerRow (this.rowOccupancy[channel]);
     }
 
 
@@ -681,10 +685,19 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getUpperRowWithData (final int channel)
     {
-        for (int row = this.numRows - 1; row >= 0; row--)
-            if (this.hasRowData (channel, row))
-                return row;
-        return -1;
+        return getUpperRow (this.rowOccupancy[channel]);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getStepState (final int channel, final int step)
+    {
+        if (channel < 0 || channel >= 16 || step < 0 || step >= this.numSteps)
+            return IStepInfo.NOTE_OFF;
+        if (this.stepStartCounts[channel][step] > 0)
+            return IStepInfo.NOTE_START;
+        return this.stepContinueCounts[channel][step] > 0 ? IStepInfo.NOTE_CONTINUE : IStepInfo.NOTE_OFF;
     }
 
 
@@ -694,6 +707,7 @@ public class CursorClipImpl implements INoteClip
     {
         this.getClip ().scrollToStep (page * this.numSteps);
         this.editPage = page;
+        this.revision++;
     }
 
 
@@ -713,6 +727,7 @@ public class CursorClipImpl implements INoteClip
             return;
         this.getClip ().scrollStepsPageBackwards ();
         this.editPage--;
+        this.revision++;
     }
 
 
@@ -722,6 +737,7 @@ public class CursorClipImpl implements INoteClip
     {
         this.getClip ().scrollStepsPageForward ();
         this.editPage++;
+        this.revision++;
     }
 
 
@@ -850,14 +866,92 @@ public class CursorClipImpl implements INoteClip
         final int step = noteStep.x ();
         final int note = noteStep.y ();
         final StepInfoImpl sinfo = this.getUpdateableStep (channel, step, note);
-        if (!this.editStep.isSet () || this.editStep.getChannel () != channel || this.editStep.getStep () != step || this.editStep.getNote () != note)
-            sinfo.updateData (noteStep);
+        if (this.editStep.isSet () && this.editStep.getChannel () == channel && this.editStep.getStep () == step && this.editStep.getNote () == note)
+            return;
+
+        final int oldState = sinfo.getState ();
+        sinfo.updateData (noteStep);
+        final int newState = sinfo.getState ();
+        if (oldState != newState)
+            this.updateIndex (channel, step, note, oldState, newState);
+    }
+
+
+    /**
+     * Update the index of the note data after the state of a step has changed.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param row The row
+     * @param oldState The previous state of the step
+     * @param newState The new state of the step
+     */
+    private void updateIndex (final int channel, final int step, final int row, final int oldState, final int newState)
+    {
+        if (channel < 0 || channel >= 16 || step < 0 || step >= this.numSteps || row < 0 || row >= this.numRows || row >= 128)
+            return;
+
+        updateStepCount (this.stepStartCounts[channel], step, oldState, newState, IStepInfo.NOTE_START);
+        updateStepCount (this.stepContinueCounts[channel], step, oldState, newState, IStepInfo.NOTE_CONTINUE);
+
+        final boolean wasSet = oldState != IStepInfo.NOTE_OFF;
+        final boolean isSet = newState != IStepInfo.NOTE_OFF;
+        if (wasSet == isSet)
+            return;
+
+        final int [] counts = this.rowNoteCounts[channel];
+        counts[row] += isSet ? 1 : -1;
+
+        final long [] occupancy = this.rowOccupancy[channel];
+        final int index = row / 64;
+        final long bit = 1L << row % 64;
+        if (counts[row] > 0)
+        {
+            occupancy[index] |= bit;
+            this.allRowOccupancy[index] |= bit;
+            return;
+        }
+
+        occupancy[index] &= ~bit;
+        long all = 0;
+        for (int c = 0; c < 16; c++)
+            all |= this.rowOccupancy[c][index];
+        this.allRowOccupancy[index] = all;
+    }
+
+
+    private static void updateStepCount (final int [] counts, final int step, final int oldState, final int newState, final int state)
+    {
+        if (oldState == state)
+            counts[step]--;
+        if (newState == state)
+            counts[step]++;
+    }
+
+
+    private static int getLowerRow (final long [] occupancy)
+    {
+        if (occupancy[0] != 0)
+            return Long.numberOfTrailingZeros (occupancy[0]);
+        if (occupancy[1] != 0)
+            return 64 + Long.numberOfTrailingZeros (occupancy[1]);
+        return -1;
+    }
+
+
+    private static int getUpperRow (final long [] occupancy)
+    {
+        if (occupancy[1] != 0)
+            return 127 - Long.numberOfLeadingZeros (occupancy[1]);
+        if (occupancy[0] != 0)
+            return 63 - Long.numberOfLeadingZeros (occupancy[0]);
+        return -1;
     }
 
 
     /**
-     * Get the step at the given position. If the position still contains the Empty Step Info object
-     * an updateable one is created.
+     * Get the step at the given position. If the data of the channel of the step is not yet present
+     * it is created.
      *
      * @param channel The midi channel
      * @param step The step
@@ -866,24 +960,38 @@ public class CursorClipImpl implements INoteClip
      */
     private StepInfoImpl getUpdateableStep (final int channel, final int step, final int row)
     {
-        final IStepInfo [] [] [] stepInfos = this.getStepInfos ();
-        synchronized (stepInfos)
+        // The step is going to be modified
+        this.revision++;
+
+        if (!this.isInRange (channel, step, row))
+            return new StepInfoImpl ();
+
+        final NoteStepData [] stepData = this.getStepData ();
+        NoteStepData data = stepData[channel];
+        if (data == null)
         {
-            try
+            // Lazily create the data of the channel, only the creation needs to be synchronized,
+            // the values are written directly
+            synchronized (stepData)
             {
-                // Lazily create an updateable object and keep it
-                if (stepInfos[channel][step] == null)
-                    stepInfos[channel][step] = new IStepInfo [this.numRows];
-                if (stepInfos[channel][step][row] == null)
-                    stepInfos[channel][step][row] = new StepInfoImpl ();
-                return (StepInfoImpl) stepInfos[channel][step][row];
-            }
-            catch (final ArrayIndexOutOfBoundsException ex)
-            {
-                this.host.errorln (ex.getLocalizedMessage ());
-                return new StepInfoImpl ();
+                data = stepData[channel];
+                if (data == null)
+                {
+                    data = new NoteStepData (this.numSteps, this.numRows);
+                    stepData[channel] = data;
+                }
             }
         }
+        return data.getStep (step, row);
+    }
+
+
+    private boolean isInRange (final int channel, final int step, final int row)
+    {
+        if (channel >= 0 && channel < 16 && step >= 0 && step < this.numSteps && row >= 0 && row < this.numRows)
+            return true;
+        this.host.errorln ("Step out of range: " + channel + ", " + step + ", " + row);
+        return false;
     }
 
 
@@ -899,11 +1007,11 @@ public class CursorClipImpl implements INoteClip
 
 
     /**
-     * Get the launcher or arranger step infos. Depending on which is active.
+     * Get the launcher or arranger step data. Depending on which is active.
      *
-     * @return The step infos
+     * @return The step data of the MIDI channels
      */
-    private IStepInfo [] [] [] getStepInfos ()
+    private NoteStepData [] getStepData ()
     {
         return this.launcherData;
     }
@@ -21,6 +21,7 @@ import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlServer;
+import de.mossgrabers.framework.osc.OpenSoundControlUdpClient;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.UsbException;
 
@@ -31,6 +32,7 @@ import com.bitwig.extension.controller.api.ControllerHost;
 import com.bitwig.extension.controller.api.HardwareDevice;
 import com.bitwig.extension.controller.api.UsbDevice;
 
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
@@ -44,8 +46,9 @@ import java.util.List;
  */
 public class HostImpl implements IHost
 {
-    private ControllerHost   host;
-    private List<IUsbDevice> usbDevices = new ArrayList<> ();
+    private ControllerHost                  host;
+    private List<IUsbDevice>                usbDevices = new ArrayList<> ();
+    private List<OpenSoundControlUdpClient> oscClients = new ArrayList<> ();
 
 
     /**
@@ -159,6 +162,19 @@ public class HostImpl implements IHost
     @Override
     public IOpenSoundControlClient connectToOSCServer (final String serverAddress, final int serverPort)
     {
+        // Prefer the own UDP client since it can pack bundles by size and does not block the caller
+        try
+        {
+            final OpenSoundControlUdpClient client = new OpenSoundControlUdpClient (serverAddress, serverPort);
+            client.setCloseHandler ( () -> this.oscClients.remove (client));
+            this.oscClients.add (client);
+            return client;
+        }
+        catch (final IOException ex)
+        {
+            this.error ("Could not open UDP channel, using the Bitwig OSC connection.", ex);
+        }
+
         final OscModule oscModule = this.host.getOscModule ();
         return new OpenSoundControlClientImpl (oscModule.connectToUdpServer (serverAddress, serverPort, oscModule.createAddressSpace ()));
     }
@@ -187,7 +203,10 @@ public class HostImpl implements IHost
     @Override
     public void releaseOSC ()
     {
-        // This is automatically handled by the Bitwig framework
+        // Bitwig OSC connections are automatically handled by the Bitwig framework
+        // Closing removes the client from the list
+        for (final OpenSoundControlUdpClient client: new ArrayList<> (this.oscClients))
+            client.close ();
     }
 
 
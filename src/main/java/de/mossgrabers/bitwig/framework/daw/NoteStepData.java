@@ -0,0 +1,225 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.daw;
+
+import de.mossgrabers.framework.daw.constants.Resolution;
+
+import java.util.Arrays;
+
+
+/**
+ * Stores the note data of all steps and rows of one MIDI channel of a clip in flat arrays. The
+ * data of a step and row is at index step * numRows + row. The arrays of the note parameters are
+ * only allocated when a value different from the default is set. The normalized parameters are
+ * stored as floats.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class NoteStepData
+{
+    private static final double DEFAULT_DURATION = Resolution.RES_1_16.getValue ();
+
+    private final int           numRows;
+    private final int           size;
+    private final byte []       state;
+    private double []           duration;
+    private float []            velocity;
+    private float []            releaseVelocity;
+    private float []            pressure;
+    private float []            timbre;
+    private float []            pan;
+    private float []            transpose;
+    private float []            gain;
+
+    // The view which is re-pointed to the requested step
+    private final StepInfoImpl  view;
+
+
+    /**
+     * Constructor.
+     *
+     * @param numSteps The number of steps
+     * @param numRows The number of rows
+     */
+    public NoteStepData (final int numSteps, final int numRows)
+    {
+        this.numRows = numRows;
+        this.size = numSteps * numRows;
+        this.state = new byte [this.size];
+        this.view = new StepInfoImpl (this, 0);
+    }
+
+
+    /**
+     * Get the index of the data of a step and row.
+     *
+     * @param step The step
+     * @param row The row
+     * @return The index
+     */
+    public int getIndex (final int step, final int row)
+    {
+        return step * this.numRows + row;
+    }
+
+
+    /**
+     * Get the view on the data of a step and row. The same view instance is returned for all steps,
+     * therefore it is only valid until the next call. Use IStepInfo.createCopy to keep the data.
+     *
+     * @param step The step
+     * @param row The row
+     * @return The view
+     */
+    public StepInfoImpl getStep (final int step, final int row)
+    {
+        this.view.setIndex (this.getIndex (step, row));
+        return this.view;
+    }
+
+
+    int getState (final int index)
+    {
+        return this.state[index];
+    }
+
+
+    void setState (final int index, final int state)
+    {
+        this.state[index] = (byte) state;
+    }
+
+
+    double getDuration (final int index)
+    {
+        return this.duration == null ? DEFAULT_DURATION : this.duration[index];
+    }
+
+
+    void setDuration (final int index, final double duration)
+    {
+        if (this.duration == null)
+        {
+            if (duration == DEFAULT_DURATION)
+                return;
+            this.duration = new double [this.size];
+            Arrays.fill (this.duration, DEFAULT_DURATION);
+        }
+        this.duration[index] = duration;
+    }
+
+
+    double getVelocity (final int index)
+    {
+        return get (this.velocity, index);
+    }
+
+
+    void setVelocity (final int index, final double velocity)
+    {
+        this.velocity = this.set (this.velocity, index, velocity);
+    }
+
+
+    double getReleaseVelocity (final int index)
+    {
+        return get (this.releaseVelocity, index);
+    }
+
+
+    void setReleaseVelocity (final int index, final double releaseVelocity)
+    {
+        this.releaseVelocity = this.set (this.releaseVelocity, index, releaseVelocity);
+    }
+
+
+    double getPressure (final int index)
+    {
+        return get (this.pressure, index);
+    }
+
+
+    void setPressure (final int index, final double pressure)
+    {
+        this.pressure = this.set (this.pressure, index, pressure);
+    }
+
+
+    double getTimbre (final int index)
+    {
+        return get (this.timbre, index);
+    }
+
+
+    void setTimbre (final int index, final double timbre)
+    {
+        this.timbre = this.set (this.timbre, index, timbre);
+    }
+
+
+    double getPan (final int index)
+    {
+        return get (this.pan, index);
+    }
+
+
+    void setPan (final int index, final double pan)
+    {
+        this.pan = this.set (this.pan, index, pan);
+    }
+
+
+    double getTranspose (final int index)
+    {
+        return get (this.transpose, index);
+    }
+
+
+    void setTranspose (final int index, final double transpose)
+    {
+        this.transpose = this.set (this.transpose, index, transpose);
+    }
+
+
+    double getGain (final int index)
+    {
+        return get (this.gain, index);
+    }
+
+
+    void setGain (final int index, final double gain)
+    {
+        this.gain = this.set (this.gain, index, gain);
+    }
+
+
+    private static double get (final float [] values, final int index)
+    {
+        return values == null ? 0 : values[index];
+    }
+
+
+    /**
+     * Set a value. The array is allocated if the value is not 0.
+     *
+     * @param values The array, might be null if no value was set yet
+     * @param index The index of the value
+     * @param value The value to set
+     * @return The array
+     */
+    private float [] set (final float [] values, final int index, final double value)
+    {
+        if (values == null)
+        {
+            if (value == 0)
+                return null;
+            final float [] newValues = new float [this.size];
+            newValues[index] = (float) value;
+            return newValues;
+        }
+        values[index] = (float) value;
+        return values;
+    }
+}
@@ -5,35 +5,41 @@
 package de.mossgrabers.bitwig.framework.daw;
 
 import de.mossgrabers.framework.daw.IStepInfo;
-import de.mossgrabers.framework.daw.constants.Resolution;
 
 import com.bitwig.extension.controller.api.NoteStep;
 
 
 /**
- * Implementation for the data about a note in a sequencer step.
+ * Implementation for the data about a note in a sequencer step. It is a view on the data stored in
+ * a note step data block.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class StepInfoImpl implements IStepInfo
 {
-    private int    state;
-    private double duration = Resolution.RES_1_16.getValue ();
-    private double velocity;
-    private double releaseVelocity;
-    private double pressure;
-    private double timbre;
-    private double pan;
-    private double transpose;
-    private double gain;
+    private final NoteStepData data;
+    private int                index;
 
 
     /**
-     * Constructor.
+     * Constructor. Creates a step which is not connected to a clip.
      */
     public StepInfoImpl ()
     {
-        // Intentionally empty
+        this (new NoteStepData (1, 1), 0);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param data The data block which contains the step
+     * @param index The index of the step in the data block
+     */
+    public StepInfoImpl (final NoteStepData data, final int index)
+    {
+        this.data = data;
+        this.index = index;
     }
 
 
@@ -41,7 +47,7 @@ public class StepInfoImpl implements IStepInfo
     @Override
     public int getState ()
     {
-        return this.state;
+        return this.data.getState (this.index);
     }
 
 
@@ -49,7 +55,7 @@ public class StepInfoImpl implements IStepInfo
     @Override
     public double getDuration ()
     {
-        return this.duration;
+        return this.data.getDuration (this.index);
     }
 
 
@@ -57,7 +63,7 @@ public class StepInfoImpl implements IStepInfo
     @Override
     public double getVelocity ()
     {
-        return this.velocity;
+        return this.data.getVelocity (this.index);
     }
 
 
@@ -65,7 +71,7 @@ public class StepInfoImpl implements IStepInfo
     @Override
     public double getReleaseVelocity ()
     {
-        return this.releaseVelocity;
+        return this.data.getReleaseVelocity (this.index);
     }
 
 
@@ -73,7 +79,7 @@ public class StepInfoImpl implements IStepInfo
     @Override
     public double getPressure ()
     {
-        return this.pressure;
+        return this.data.getPressure (this.index);
     }
 
 
@@ -81,7 +87,7 @@ public class StepInfoImpl implements IStepInfo
     @Override
     public double getTimbre ()
     {
-        return this.timbre;
+        return this.data.getTimbre (this.index);
     }
 
 
@@ -89,7 +95,7 @@ public class StepInfoImpl implements IStepInfo
     @Override
     public double getPan ()
     {
-        return this.pan;
+        return this.data.getPan (this.index);
     }
 
 
@@ -97,7 +103,7 @@ public class StepInfoImpl implements IStepInfo
     @Override
     public double getTranspose ()
     {
-        return this.transpose;
+        return this.data.getTranspose (this.index);
     }
 
 
@@ -105,7 +111,25 @@ public class StepInfoImpl implements IStepInfo
     @Override
     public double getGain ()
     {
-        return this.gain;
+        return this.data.getGain (this.index);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IStepInfo createCopy ()
+    {
+        final StepInfoImpl copy = new StepInfoImpl ();
+        copy.setState (this.getState ());
+        copy.setDuration (this.getDuration ());
+        copy.setVelocity (this.getVelocity ());
+        copy.setReleaseVelocity (this.getReleaseVelocity ());
+        copy.setPressure (this.getPressure ());
+        copy.setTimbre (this.getTimbre ());
+        copy.setPan (this.getPan ());
+        copy.setTranspose (this.getTranspose ());
+        copy.setGain (this.getGain ());
+        return copy;
     }
 
 
@@ -117,7 +141,7 @@ public class StepInfoImpl implements IStepInfo
      */
     public void setState (final int state)
     {
-        this.state = state;
+        this.data.setState (this.index, state);
     }
 
 
@@ -131,71 +155,77 @@ public class StepInfoImpl implements IStepInfo
         switch (stepInfo.state ())
         {
             case NoteOn:
-                this.state = IStepInfo.NOTE_START;
+                this.setState (IStepInfo.NOTE_START);
                 break;
             case NoteSustain:
-                this.state = IStepInfo.NOTE_CONTINUE;
+                this.setState (IStepInfo.NOTE_CONTINUE);
                 break;
             case Empty:
-                this.state = IStepInfo.NOTE_OFF;
+                this.setState (IStepInfo.NOTE_OFF);
                 break;
         }
 
-        this.duration = stepInfo.duration ();
-        this.velocity = stepInfo.velocity ();
-        this.releaseVelocity = stepInfo.releaseVelocity ();
-        this.pressure = stepInfo.pressure ();
-        this.timbre = stepInfo.timbre ();
-        this.pan = stepInfo.pan ();
-        this.transpose = stepInfo.transpose ();
-        this.gain = stepInfo.gain ();
+        this.setDuration (stepInfo.duration ());
+        this.setVelocity (stepInfo.velocity ());
+        this.setReleaseVelocity (stepInfo.releaseVelocity ());
+        this.setPressure (stepInfo.pressure ());
+        this.setTimbre (stepInfo.timbre ());
+        this.setPan (stepInfo.pan ());
+        this.setTranspose (stepInfo.transpose ());
+        this.setGain (stepInfo.gain ());
+    }
+
+
+    void setIndex (final int index)
+    {
+        this.index = index;
     }
 
 
     void setDuration (final double duration)
     {
-        this.duration = duration;
+        this.data.setDuration (this.index, duration);
     }
 
 
     void setVelocity (final double velocity)
     {
-        this.velocity = velocity;
+        this.data.setVelocity (this.index, velocity);
     }
 
 
     void setReleaseVelocity (final double releaseVelocity)
     {
-        this.releaseVelocity = releaseVelocity;
+        this.data.setReleaseVelocity (this.index, releaseVelocity);
     }
 
 
     void setPressure (final double pressure)
     {
-        this.pressure = pressure;
+        this.data.setPressure (this.index, pressure);
     }
 
 
     void setTimbre (final double timbre)
     {
-        this.timbre = timbre;
+        this.data.setTimbre (this.index, timbre);
     }
 
 
     void setPan (final double pan)
     {
-        this.pan = pan;
+        this.data.setPan (this.index, pan);
     }
 
 
     void setTranspose (final double transpose)
     {
-        this.transpose = transpose;
+        this.data.setTranspose (this.index, transpose);
     }
 
 
     void setGain (final double gain)
     {
-        this.gain = gain;
+        this.data.setGain (this.index, gain);
     }
 }
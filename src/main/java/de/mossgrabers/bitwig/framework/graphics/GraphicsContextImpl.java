@@ -6,6 +6,7 @@ package de.mossgrabers.bitwig.framework.graphics;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.graphics.Align;
+import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IImage;
 import de.mossgrabers.framework.utils.StringUtils;
@@ -50,6 +51,24 @@ public class GraphicsContextImpl implements IGraphicsContext
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setClip (final double x, final double y, final double width, final double height)
+    {
+        this.gc.resetClip ();
+        this.gc.rectangle (x, y, Math.max (0, width), Math.max (0, height));
+        this.gc.clip ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetClip ()
+    {
+        this.gc.resetClip ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void fillRectangle (final double x, final double y, final double width, final double height, final ColorEx color)
@@ -243,6 +262,14 @@ public class GraphicsContextImpl implements IGraphicsContext
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void drawBitmap (final IBitmap bitmap, final double x, final double y)
+    {
+        this.gc.drawImage (((BitmapImpl) bitmap).getBitmap (), x, y);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void maskImage (final IImage icon, final double x, final double y, final ColorEx maskColor)
@@ -77,4 +77,21 @@ public class OpenSoundControlClientImpl implements IOpenSoundControlClient
         }
         this.connection.endBundle ();
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isBusy ()
+    {
+        // Sending is synchronous
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void close ()
+    {
+        // This is automatically handled by the Bitwig framework
+    }
 }
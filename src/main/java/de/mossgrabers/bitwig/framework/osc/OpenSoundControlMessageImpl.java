@@ -8,6 +8,7 @@ import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 
 import com.bitwig.extension.api.opensoundcontrol.OscMessage;
 
+import java.util.Collections;
 import java.util.List;
 
 
@@ -42,7 +43,7 @@ public class OpenSoundControlMessageImpl implements IOpenSoundControlMessage
     public OpenSoundControlMessageImpl (final String address, final List<Object> values)
     {
         this.address = address;
-        this.values = values;
+        this.values = values == null ? Collections.emptyList () : values;
     }
 
 
@@ -58,6 +59,66 @@ public class OpenSoundControlMessageImpl implements IOpenSoundControlMessage
     @Override
     public Object [] getValues ()
     {
-        return this.values == null ? new Object [0] : this.values.toArray ();
+        return this.values.toArray ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int size ()
+    {
+        return this.values.size ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public Object getValue (final int index)
+    {
+        return this.values.get (index);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getInt (final int index)
+    {
+        return this.getNumber (index).intValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public float getFloat (final int index)
+    {
+        return this.getNumber (index).floatValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getDouble (final int index)
+    {
+        return this.getNumber (index).doubleValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getString (final int index)
+    {
+        final Object value = this.values.get (index);
+        return value == null ? null : value.toString ();
+    }
+
+
+    private Number getNumber (final int index)
+    {
+        final Object value = this.values.get (index);
+        if (value instanceof Number)
+            return (Number) value;
+        if (value instanceof Boolean)
+            return Integer.valueOf (((Boolean) value).booleanValue () ? 1 : 0);
+        throw new NumberFormatException ("For input string: \"" + value + "\"");
     }
 }
@@ -146,6 +146,13 @@ public class APCControllerSetup extends AbstractControllerSetup<APCControlSurfac
     {
         final IMidiAccess midiAccess = this.factory.createMidiAccess ();
         final IMidiOutput output = midiAccess.createOutput ();
+        // The mkI drops messages when flooded, e.g. on a full repaint of the session grid. Do not
+        // waste the bandwidth for values which the device already has
+        if (!this.isMkII)
+        {
+            output.enableRateLimit (IMidiOutput.DIN_BYTES_PER_SECOND);
+            output.enableCache (true);
+        }
         final IMidiInput input = midiAccess.createInput (this.isMkII ? "Akai APC40 mkII" : "Akai APC40",
                 "B040??" /* Sustainpedal */);
         final APCControlSurface surface = new APCControlSurface (this.host, this.colorManager, this.configuration, output, input, this.isMkII);
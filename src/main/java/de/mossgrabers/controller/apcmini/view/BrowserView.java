@@ -86,7 +86,7 @@ public class BrowserView extends AbstractView<APCminiControlSurface, APCminiConf
         if (!browser.isActive ())
             return;
 
-        int n = this.surface.getPadGrid ().translateToController (note)[1];
+        int n = this.surface.getPadGrid ().getControllerNote (note);
         switch (n)
         {
             // Cancel
@@ -37,11 +37,34 @@ public class FireDisplay extends AbstractGraphicDisplay
 
     private static final int       STRIPE_SIZE   = 147;
     private static final int       PACKET_SIZE   = 4 + STRIPE_SIZE;
+    private static final int       WIDTH         = 128;
+    private static final int       STRIPE_PIXELS = 8 * WIDTH;
+
+    /** The index into the stripe data for each pixel of a stripe. */
+    private static final int []    REMAP_INDEX   = new int [STRIPE_PIXELS];
+    /** The bit to set in the stripe data for each pixel of a stripe. */
+    private static final int []    REMAP_MASK    = new int [STRIPE_PIXELS];
+
+    static
+    {
+        for (int y = 0; y < 8; y++)
+        {
+            for (int x = 0; x < WIDTH; x++)
+            {
+                // Remap by tiling 7x8 block of translated pixels
+                final int remapBit = BIT_MUTATE[y][x % 7];
+                final int pos = y * WIDTH + x;
+                REMAP_INDEX[pos] = x / 7 * 8 + remapBit / 7;
+                REMAP_MASK[pos] = 1 << remapBit % 7;
+            }
+        }
+    }
 
     private final IMidiOutput      output;
     private final int [] []        oledBitmap    = new int [8] [STRIPE_SIZE];
     private final int [] []        oldOledBitmap = new int [8] [STRIPE_SIZE];
     private final byte []          data          = new byte [12 + STRIPE_SIZE];
+    private final byte []          pixels        = new byte [4 * STRIPE_PIXELS];
 
     private long                   lastSend      = System.currentTimeMillis ();
 
@@ -56,7 +79,7 @@ public class FireDisplay extends AbstractGraphicDisplay
      */
     public FireDisplay (final IHost host, final IMidiOutput output, final int maxParameterValue)
     {
-        super (host, new ChromaticGraphicsConfiguration (), new DefaultGraphicsDimensions (128, 64, maxParameterValue), "Fire Display");
+        super (host, new ChromaticGraphicsConfiguration (), new DefaultGraphicsDimensions (WIDTH, 64, maxParameterValue), "Fire Display");
 
         this.output = output;
 
@@ -99,29 +122,20 @@ public class FireDisplay extends AbstractGraphicDisplay
         {
             image.encode ( (imageBuffer, width, height) -> {
 
-                // Unwind 128x64 arrangement into a 1024x8 arrangement of pixels
+                // Unwind 128x64 arrangement into a 1024x8 arrangement of pixels, read a whole
+                // stripe at once
                 for (int stripe = 0; stripe < 8; stripe++)
                 {
-                    for (int y = 0; y < height / 8; y++)
+                    imageBuffer.get (this.pixels);
+
+                    final int [] stripeBitmap = this.oledBitmap[stripe];
+                    Arrays.fill (stripeBitmap, 0);
+                    for (int pos = 0; pos < STRIPE_PIXELS; pos++)
                     {
-                        for (int x = 0; x < width; x++)
-                        {
-                            final int blue = imageBuffer.get ();
-                            final int green = imageBuffer.get ();
-                            final int red = imageBuffer.get ();
-                            imageBuffer.get (); // Drop unused Alpha
-
-                            final int xpos = x + 128 * (y / 8);
-                            final int ypos = y % 8;
-
-                            // Remap by tiling 7x8 block of translated pixels
-                            final int remapBit = BIT_MUTATE[ypos][xpos % 7];
-                            final int idx = xpos / 7 * 8 + remapBit / 7;
-                            if (blue + green + red < 0)
-                                this.oledBitmap[stripe][idx] |= 1 << remapBit % 7;
-                            else
-                                this.oledBitmap[stripe][idx] &= ~(1 << remapBit % 7);
-                        }
+                        final int offset = 4 * pos;
+                        // Blue, green, red, alpha is unused
+                        if (this.pixels[offset] + this.pixels[offset + 1] + this.pixels[offset + 2] < 0)
+                            stripeBitmap[REMAP_INDEX[pos]] |= REMAP_MASK[pos];
                     }
                 }
             });
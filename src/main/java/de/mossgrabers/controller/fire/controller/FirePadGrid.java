@@ -7,13 +7,11 @@ package de.mossgrabers.controller.fire.controller;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.BlinkingPadGrid;
-import de.mossgrabers.framework.controller.grid.LightInfo;
+import de.mossgrabers.framework.controller.grid.PackedLightInfos;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Arrays;
 
 
 /**
@@ -33,15 +31,26 @@ public class FirePadGrid extends BlinkingPadGrid
     };
     // @formatter:on
 
-    private static final Map<Integer, Integer> INVERSE_TRANSLATE_16x4_MATRIX = new HashMap<> (64);
+    private static final byte [] SYSEX_HEADER                  =
+    {
+        (byte) 0xF0,
+        0x47,
+        0x7F,
+        0x43,
+        0x65
+    };
+
+    private static final int []  INVERSE_TRANSLATE_16x4_MATRIX = new int [128];
     static
     {
+        Arrays.fill (INVERSE_TRANSLATE_16x4_MATRIX, -1);
         for (int i = 0; i < TRANSLATE_16x4_MATRIX.length; i++)
-            INVERSE_TRANSLATE_16x4_MATRIX.put (Integer.valueOf (TRANSLATE_16x4_MATRIX[i]), Integer.valueOf (36 + i));
+            INVERSE_TRANSLATE_16x4_MATRIX[TRANSLATE_16x4_MATRIX[i]] = 36 + i;
     }
 
-    private double padBrightness = 1.0;
-    private double padSaturation = 1.0;
+    private final SysexBuilder   sysex                         = new SysexBuilder (1024);
+    private double               padBrightness                 = 1.0;
+    private double               padSaturation                 = 1.0;
 
 
     /**
@@ -60,8 +69,7 @@ public class FirePadGrid extends BlinkingPadGrid
     @Override
     public int translateToGrid (final int note)
     {
-        final Integer value = INVERSE_TRANSLATE_16x4_MATRIX.get (Integer.valueOf (note));
-        return value == null ? -1 : value.intValue ();
+        return note >= 0 && note < INVERSE_TRANSLATE_16x4_MATRIX.length ? INVERSE_TRANSLATE_16x4_MATRIX[note] : -1;
     }
 
 
@@ -79,69 +87,50 @@ public class FirePadGrid extends BlinkingPadGrid
 
     /** {@inheritDoc} */
     @Override
-    protected void updateController ()
-    {
-        final String update = this.buildLEDUpdate ();
-        if (update != null)
-            this.output.sendSysex (update);
-    }
-
-
-    private String buildLEDUpdate ()
+    protected void updateController (final PackedLightInfos padInfos)
     {
-        final StringBuilder sb = new StringBuilder ();
+        // The length of the data is set when it is known
+        final int lengthIndex = SYSEX_HEADER.length;
+        this.sysex.start (SYSEX_HEADER).addByte (0).addByte (0);
+        final int dataStart = this.sysex.getLength ();
 
-        for (final Entry<Integer, LightInfo> e: this.padInfos.entrySet ())
+        for (int note = padInfos.next (0); note >= 0; note = padInfos.next (note + 1))
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
+            final int info = padInfos.get (note);
 
             final int index = note - 54;
             // Note: The exact PADx is not needed for getting the color
-            final int [] c = this.colorManager.getColor (info.getColor (), ButtonID.PAD1).scale (this.padBrightness, this.padSaturation).toIntRGB127 ();
-            sb.append (StringUtils.toHexStr (index)).append (' ');
-            sb.append (StringUtils.toHexStr (c[0])).append (' ');
-            sb.append (StringUtils.toHexStr (c[1])).append (' ');
-            sb.append (StringUtils.toHexStr (c[2])).append (' ');
+            final int [] c = this.colorManager.getColor (PackedLightInfos.getColor (info), ButtonID.PAD1).scale (this.padBrightness, this.padSaturation).toIntRGB127 ();
+            this.sysex.add7Bit (index).add7Bit (c[0]).add7Bit (c[1]).add7Bit (c[2]);
 
             // Hardware does not support blinking, therefore needs to be implemented the hard
             // way
-            final Integer key = Integer.valueOf (index);
-            if (info.getBlinkColor () > 0)
-                this.blinkingLights.put (key, info);
+            if (PackedLightInfos.getBlinkColor (info) > 0)
+                this.blinkingLights.set (index, info);
             else
-                this.blinkingLights.remove (key);
+                this.blinkingLights.remove (index);
         }
 
-        int length = this.padInfos.size ();
-
         // Toggle blink colors every 600ms
         if (this.checkBlinking ())
         {
-            length += this.blinkingLights.size ();
-
-            for (final Entry<Integer, LightInfo> value: this.blinkingLights.entrySet ())
+            for (int index = this.blinkingLights.next (0); index >= 0; index = this.blinkingLights.next (index + 1))
             {
-                final LightInfo info = value.getValue ();
+                final int info = this.blinkingLights.get (index);
 
-                final int colorIndex = this.isBlink ? info.getBlinkColor () : info.getColor ();
+                final int colorIndex = this.isBlink ? PackedLightInfos.getBlinkColor (info) : PackedLightInfos.getColor (info);
                 final int [] c = this.colorManager.getColor (colorIndex, ButtonID.PAD1).scale (this.padBrightness, this.padSaturation).toIntRGB127 ();
-                sb.append (StringUtils.toHexStr (value.getKey ().intValue ())).append (' ');
-                sb.append (StringUtils.toHexStr (c[0])).append (' ');
-                sb.append (StringUtils.toHexStr (c[1])).append (' ');
-                sb.append (StringUtils.toHexStr (c[2])).append (' ');
+                this.sysex.add7Bit (index).add7Bit (c[0]).add7Bit (c[1]).add7Bit (c[2]);
             }
         }
 
         // No update necessary
-        if (sb.length () == 0)
-            return null;
-
-        length *= 4;
-        final StringBuilder msg = new StringBuilder ("F0 47 7F 43 65 ");
-        msg.append (StringUtils.toHexStr (length / 128)).append (' ');
-        msg.append (StringUtils.toHexStr (length % 128)).append (' ');
-        return msg.append (sb).append ("F7").toString ();
+        final int length = this.sysex.getLength () - dataStart;
+        if (length == 0)
+            return;
+
+        this.sysex.setByte (lengthIndex, length / 128).setByte (lengthIndex + 1, length % 128);
+        this.sysex.send (this.output);
     }
 
 
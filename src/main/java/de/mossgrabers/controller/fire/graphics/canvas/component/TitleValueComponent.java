@@ -74,6 +74,14 @@ public class TitleValueComponent implements IComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean overlapsSeparator ()
+    {
+        return false;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int hashCode ()
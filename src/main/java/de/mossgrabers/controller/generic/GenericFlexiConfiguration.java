@@ -254,6 +254,9 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     /** The number of command slots. */
     public static final int                          NUM_SLOTS                 = 200;
 
+    /** The minimum time in milliseconds between updates of the MIDI learn settings. */
+    private static final int                         LEARN_UPDATE_INTERVAL     = 100;
+
     private IEnumSetting                             slotSelectionSetting;
     private IEnumSetting                             typeSetting;
     private IEnumSetting                             numberSetting;
@@ -275,10 +278,17 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     private String                                   filename;
     private Object                                   syncMapUpdate             = new Object ();
     private int []                                   keyMap;
+    private volatile int [] [] []                    slotLookup;
+    private int                                      slotRevision              = 0;
     private int                                      seleIndexctedSlot         = 0;
-    private String                                   learnTypeValue            = null;
-    private String                                   learnNumberValue          = null;
-    private String                                   learnMidiChannelValue     = null;
+    private int                                      learnType                 = CommandSlot.TYPE_OFF;
+    private int                                      learnNumber               = 0;
+    private int                                      learnMidiChannel          = 0;
+    private int                                      publishedLearnType        = CommandSlot.TYPE_OFF;
+    private int                                      publishedLearnNumber      = 0;
+    private int                                      publishedLearnMidiChannel = 0;
+    private long                                     lastLearnUpdate           = 0;
+    private boolean                                  isLearnUpdateScheduled    = false;
     private AtomicBoolean                            doNotFire                 = new AtomicBoolean (false);
     private AtomicBoolean                            commandIsUpdating         = new AtomicBoolean (false);
     private String []                                assignableFunctionActions = new String [8];
@@ -363,11 +373,11 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         this.learnMidiChannelSetting.setEnabled (false);
 
         globalSettings.getSignalSetting (" ", category, "Set").addSignalObserver (value -> {
-            if (this.learnTypeValue == null)
+            if (this.learnType == CommandSlot.TYPE_OFF)
                 return;
-            this.typeSetting.set (this.learnTypeValue);
-            this.numberSetting.set (this.learnNumberValue);
-            this.midiChannelSetting.set (this.learnMidiChannelValue);
+            this.typeSetting.set (OPTIONS_TYPE[this.learnType + 1]);
+            this.numberSetting.set (NUMBER_NAMES[this.learnNumber]);
+            this.midiChannelSetting.set (Integer.toString (this.learnMidiChannel + 1));
         });
 
         ///////////////////////////////////////////////
@@ -406,8 +416,14 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
             this.getSelectedSlot ().setKnobMode (AbstractConfiguration.lookupIndex (OPTIONS_KNOBMODE, value));
             this.fixKnobMode ();
         });
-        this.sendValueSetting.addValueObserver (value -> this.getSelectedSlot ().setSendValue (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0));
-        this.sendValueWhenReceivedSetting.addValueObserver (value -> this.getSelectedSlot ().setSendValueWhenReceived (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0));
+        this.sendValueSetting.addValueObserver (value -> {
+            this.getSelectedSlot ().setSendValue (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0);
+            this.slotRevision++;
+        });
+        this.sendValueWhenReceivedSetting.addValueObserver (value -> {
+            this.getSelectedSlot ().setSendValueWhenReceived (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0);
+            this.slotRevision++;
+        });
 
         ///////////////////////////////////////////////
         // Keyboard / Pads
@@ -470,6 +486,8 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         final FlexiCommand oldCommand = selectedSlot.getCommand ();
         final FlexiCommand newCommand = FlexiCommand.lookupByName (value);
         selectedSlot.setCommand (newCommand);
+        this.slotLookup = null;
+        this.slotRevision++;
 
         this.fixKnobMode ();
         this.notifyCommandObserver ();
@@ -504,21 +522,55 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
 
     /**
-     * Set a received CC value.
+     * Set a received CC value. Only the values are stored, the MIDI learn settings are updated in
+     * {@link #updateLearnSettings()}.
      *
-     * @param type The CC, Note or Program Change
+     * @param type The CC, Note or Program Change, see CommandSlot.TYPE_*
      * @param number The number
      * @param midiChannel The midi channel
      */
-    public void setLearnValues (final String type, final int number, final int midiChannel)
+    public void setLearnValues (final int type, final int number, final int midiChannel)
+    {
+        this.learnType = type;
+        this.learnNumber = number;
+        this.learnMidiChannel = midiChannel;
+    }
+
+
+    /**
+     * Display the last received values in the MIDI learn settings. The settings are only updated if
+     * the values have changed and at most every 100 milliseconds to keep the costs low when
+     * receiving a lot of MIDI messages.
+     */
+    public void updateLearnSettings ()
     {
-        this.learnTypeValue = type;
-        this.learnNumberValue = NUMBER_NAMES[number];
-        this.learnMidiChannelValue = Integer.toString (midiChannel + 1);
+        if (this.learnType == this.publishedLearnType && this.learnNumber == this.publishedLearnNumber && this.learnMidiChannel == this.publishedLearnMidiChannel)
+            return;
 
-        this.learnTypeSetting.set (type);
-        this.learnNumberSetting.set (this.learnNumberValue);
-        this.learnMidiChannelSetting.set (this.learnMidiChannelValue);
+        final long now = System.currentTimeMillis ();
+        final long elapsed = now - this.lastLearnUpdate;
+        if (elapsed < LEARN_UPDATE_INTERVAL)
+        {
+            // Make sure that the latest values get displayed even if there is no further update
+            if (!this.isLearnUpdateScheduled)
+            {
+                this.isLearnUpdateScheduled = true;
+                this.host.scheduleTask ( () -> {
+                    this.isLearnUpdateScheduled = false;
+                    this.updateLearnSettings ();
+                }, LEARN_UPDATE_INTERVAL - elapsed);
+            }
+            return;
+        }
+        this.lastLearnUpdate = now;
+
+        this.publishedLearnType = this.learnType;
+        this.publishedLearnNumber = this.learnNumber;
+        this.publishedLearnMidiChannel = this.learnMidiChannel;
+
+        this.learnTypeSetting.set (OPTIONS_TYPE[this.publishedLearnType + 1]);
+        this.learnNumberSetting.set (NUMBER_NAMES[this.publishedLearnNumber]);
+        this.learnMidiChannelSetting.set (Integer.toString (this.publishedLearnMidiChannel + 1));
     }
 
 
@@ -532,13 +584,45 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
      */
     public int getSlotCommand (final int type, final int number, final int midiChannel)
     {
-        for (int i = 0; i < this.commandSlots.length; i++)
+        if (type < CommandSlot.TYPE_CC || type > CommandSlot.TYPE_MMC || midiChannel < 0 || midiChannel > 15 || number < 0 || number > 127)
+            return -1;
+
+        int [] [] [] lookup = this.slotLookup;
+        if (lookup == null)
+        {
+            lookup = this.createSlotLookup ();
+            this.slotLookup = lookup;
+        }
+        return lookup[type][midiChannel][type == CommandSlot.TYPE_PITCH_BEND ? 0 : number];
+    }
+
+
+    /**
+     * Create a table which contains the index of the first slot which matches a type, MIDI channel
+     * and number. Pitchbend does not have a number and is therefore stored at number 0.
+     *
+     * @return The table, indexed by type, MIDI channel and number, contains -1 if there is no
+     *         matching slot
+     */
+    private int [] [] [] createSlotLookup ()
+    {
+        final int [] [] [] lookup = new int [CommandSlot.TYPE_MMC + 1] [16] [128];
+        for (final int [] [] channels: lookup)
+            for (final int [] numbers: channels)
+                Arrays.fill (numbers, -1);
+
+        // Iterate backwards so that the first matching slot wins
+        for (int i = this.commandSlots.length - 1; i >= 0; i--)
         {
             final CommandSlot slot = this.commandSlots[i];
-            if (slot.getCommand () != FlexiCommand.OFF && slot.getType () == type && slot.getMidiChannel () == midiChannel && (type == CommandSlot.TYPE_PITCH_BEND || slot.getNumber () == number))
-                return i;
+            final int type = slot.getType ();
+            final int midiChannel = slot.getMidiChannel ();
+            final int number = type == CommandSlot.TYPE_PITCH_BEND ? 0 : slot.getNumber ();
+            if (slot.getCommand () == FlexiCommand.OFF || type < CommandSlot.TYPE_CC || type > CommandSlot.TYPE_MMC || midiChannel < 0 || midiChannel > 15 || number < 0 || number > 127)
+                continue;
+            lookup[type][midiChannel][number] = i;
         }
-        return -1;
+        return lookup;
     }
 
 
@@ -570,7 +654,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
 
     /**
-     * Clear the note map.
+     * Clear the note map and the slot lookup table.
      */
     public void clearNoteMap ()
     {
@@ -578,10 +662,24 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         {
             this.keyMap = null;
         }
+        this.slotLookup = null;
+        this.slotRevision++;
         this.notifyObservers (SLOT_CHANGE);
     }
 
 
+    /**
+     * Get the revision of the command slots. The revision increases whenever a setting of a slot
+     * changes.
+     *
+     * @return The revision
+     */
+    public int getSlotRevision ()
+    {
+        return this.slotRevision;
+    }
+
+
     /**
      * Get all command slots.
      *
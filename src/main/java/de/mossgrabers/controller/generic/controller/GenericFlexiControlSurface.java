@@ -39,12 +39,23 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         new FileFilter ("All files", "*")
     };
 
+    /** Time after which the value of a received command is accepted as the new device value. */
+    private static final int                              ECHO_DELAY      = 400;
+
     private final int []                                  valueCache      = new int [GenericFlexiConfiguration.NUM_SLOTS];
+    private final boolean []                              pendingEcho     = new boolean [GenericFlexiConfiguration.NUM_SLOTS];
+    private final int []                                  commandValues   = new int [FlexiCommand.values ().length];
+    private final int []                                  commandFlushes  = new int [FlexiCommand.values ().length];
     private final Map<FlexiCommand, IFlexiCommandHandler> handlers        = new EnumMap<> (FlexiCommand.class);
     private NativeFileDialogs                             dialogs;
 
     private boolean                                       isShiftPressed  = false;
     private boolean                                       isUpdatingValue = false;
+    private boolean                                       isEchoScheduled = false;
+    private long                                          echoDeadline    = 0;
+    private int                                           flushCounter    = 0;
+    private int []                                        activeSlots     = new int [0];
+    private int                                           activeRevision  = -1;
 
 
     /**
@@ -93,22 +104,69 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     @Override
     public void flush ()
     {
+        this.configuration.updateLearnSettings ();
+
         final CommandSlot [] slots = this.configuration.getCommandSlots ();
-        for (int i = 0; i < slots.length; i++)
-        {
-            final FlexiCommand command = slots[i].getCommand ();
-            if (command == FlexiCommand.OFF || !slots[i].isSendValue ())
-                continue;
+        this.flushCounter++;
 
-            if (this.isUpdatingValue && !(slots[i].getCommand ().isTrigger () && slots[i].isSendValueWhenReceived ()))
+        for (final int i: this.getActiveSlots ())
+        {
+            final CommandSlot slot = slots[i];
+            final FlexiCommand command = slot.getCommand ();
+            if (this.isUpdatingValue && !(command.isTrigger () && slot.isSendValueWhenReceived ()))
                 continue;
 
-            final int value = this.getCommandValue (command);
+            final int value = this.getFlushedCommandValue (command);
             if (this.valueCache[i] == value)
                 continue;
             this.valueCache[i] = value;
-            this.reflectValue (slots[i], value);
+            this.reflectValue (slot, value);
+        }
+    }
+
+
+    /**
+     * Get the indices of the slots which have a command and should send their value to the device.
+     * The indices are only collected again if a slot setting has changed.
+     *
+     * @return The slot indices
+     */
+    private int [] getActiveSlots ()
+    {
+        final int revision = this.configuration.getSlotRevision ();
+        if (revision == this.activeRevision)
+            return this.activeSlots;
+        this.activeRevision = revision;
+
+        final CommandSlot [] slots = this.configuration.getCommandSlots ();
+        final int [] indices = new int [slots.length];
+        int count = 0;
+        for (int i = 0; i < slots.length; i++)
+        {
+            if (slots[i].getCommand () != FlexiCommand.OFF && slots[i].isSendValue ())
+                indices[count++] = i;
         }
+        this.activeSlots = Arrays.copyOf (indices, count);
+        return this.activeSlots;
+    }
+
+
+    /**
+     * Get the current value of a command. The value is only retrieved once per flush even if the
+     * command is assigned to several slots.
+     *
+     * @param command The command
+     * @return The value or -1
+     */
+    private int getFlushedCommandValue (final FlexiCommand command)
+    {
+        final int index = command.ordinal ();
+        if (this.commandFlushes[index] != this.flushCounter)
+        {
+            this.commandFlushes[index] = this.flushCounter;
+            this.commandValues[index] = this.getCommandValue (command);
+        }
+        return this.commandValues[index];
     }
 
 
@@ -170,13 +228,13 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         {
             // Note on/off
             case 0x90:
-                this.configuration.setLearnValues (GenericFlexiConfiguration.OPTIONS_TYPE[CommandSlot.TYPE_NOTE + 1], data1, channel);
+                this.configuration.setLearnValues (CommandSlot.TYPE_NOTE, data1, channel);
                 this.handleCommand (this.configuration.getSlotCommand (CommandSlot.TYPE_NOTE, data1, channel), data2);
                 break;
 
             // Program Change
             case 0xC0:
-                this.configuration.setLearnValues (GenericFlexiConfiguration.OPTIONS_TYPE[CommandSlot.TYPE_PROGRAM_CHANGE + 1], data1, channel);
+                this.configuration.setLearnValues (CommandSlot.TYPE_PROGRAM_CHANGE, data1, channel);
                 final int slotIndex = this.configuration.getSlotCommand (CommandSlot.TYPE_PROGRAM_CHANGE, data1, channel);
                 if (slotIndex < 0)
                     return;
@@ -195,13 +253,13 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
 
             // CC
             case 0xB0:
-                this.configuration.setLearnValues (GenericFlexiConfiguration.OPTIONS_TYPE[CommandSlot.TYPE_CC + 1], data1, channel);
+                this.configuration.setLearnValues (CommandSlot.TYPE_CC, data1, channel);
                 this.handleCommand (this.configuration.getSlotCommand (CommandSlot.TYPE_CC, data1, channel), data2);
                 break;
 
             // Pitchbend
             case 0xE0:
-                this.configuration.setLearnValues (GenericFlexiConfiguration.OPTIONS_TYPE[CommandSlot.TYPE_PITCH_BEND + 1], data1, channel);
+                this.configuration.setLearnValues (CommandSlot.TYPE_PITCH_BEND, data1, channel);
                 this.handleCommand (this.configuration.getSlotCommand (CommandSlot.TYPE_PITCH_BEND, data1, channel), data2);
                 break;
 
@@ -227,7 +285,7 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         final int channel = data[2] % 16;
         final int number = data[4];
 
-        this.configuration.setLearnValues (GenericFlexiConfiguration.OPTIONS_TYPE[CommandSlot.TYPE_MMC + 1], number, channel);
+        this.configuration.setLearnValues (CommandSlot.TYPE_MMC, number, channel);
         final int slotIndex = this.configuration.getSlotCommand (CommandSlot.TYPE_MMC, number, channel);
         if (slotIndex == -1)
             return;
@@ -368,10 +426,43 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         this.isUpdatingValue = true;
         this.handlers.get (command).handle (command, commandSlot.getKnobMode (), value);
 
-        this.host.scheduleTask ( () -> {
-            this.valueCache[slotIndex] = this.getCommandValue (command);
-            this.isUpdatingValue = false;
-        }, 400);
+        // Do not echo values back to the device while it is sending. Instead of a task for each
+        // received value there is only one timer which ends after the last received value
+        this.pendingEcho[slotIndex] = true;
+        this.echoDeadline = System.currentTimeMillis () + ECHO_DELAY;
+        if (!this.isEchoScheduled)
+        {
+            this.isEchoScheduled = true;
+            this.host.scheduleTask (this::handleEchoTimer, ECHO_DELAY);
+        }
+    }
+
+
+    /**
+     * Accept the current values of all received commands as the device values after the echo delay
+     * has passed since the last received value.
+     */
+    private void handleEchoTimer ()
+    {
+        final long remaining = this.echoDeadline - System.currentTimeMillis ();
+        if (remaining > 0)
+        {
+            this.host.scheduleTask (this::handleEchoTimer, remaining);
+            return;
+        }
+        this.isEchoScheduled = false;
+
+        final CommandSlot [] slots = this.configuration.getCommandSlots ();
+        for (int i = 0; i < this.pendingEcho.length; i++)
+        {
+            if (!this.pendingEcho[i])
+                continue;
+            this.pendingEcho[i] = false;
+            final FlexiCommand command = slots[i].getCommand ();
+            if (command != FlexiCommand.OFF)
+                this.valueCache[i] = this.getCommandValue (command);
+        }
+        this.isUpdatingValue = false;
     }
 
 
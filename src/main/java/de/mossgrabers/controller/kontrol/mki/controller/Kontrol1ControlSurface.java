@@ -182,6 +182,7 @@ public class Kontrol1ControlSurface extends AbstractControlSurface<Kontrol1Confi
         if (this.lightGuide == null)
             return;
 
+        final Kontrol1LightGuide kontrol1LightGuide = (Kontrol1LightGuide) this.lightGuide;
         for (int i = 0; i < this.usbDevice.getNumKeys (); i++)
         {
             final int index = i;
@@ -191,7 +192,7 @@ public class Kontrol1ControlSurface extends AbstractControlSurface<Kontrol1Confi
                 // The lights on the device are always addressed from 0..N, therefore the currently
                 // selected first note of the keyboard (depending on octave transpose) needs to be
                 // added
-                final int firstNote = this.usbDevice.getFirstNote ();
+                final int firstNote = kontrol1LightGuide.getFirstNote ();
                 final int note = firstNote + index;
                 if (note >= 128)
                     return -1;
@@ -199,7 +200,7 @@ public class Kontrol1ControlSurface extends AbstractControlSurface<Kontrol1Confi
 
             }, state -> {
 
-                final int firstNote = this.usbDevice.getFirstNote ();
+                final int firstNote = kontrol1LightGuide.getFirstNote ();
                 final int note = firstNote + index;
                 this.lightGuide.sendState (note);
 
@@ -300,6 +301,10 @@ public class Kontrol1ControlSurface extends AbstractControlSurface<Kontrol1Confi
     @Override
     public void octaveChanged (final int firstNote)
     {
+        // The light guide is updated here since this is called on the same thread which updates
+        // the lights
+        ((Kontrol1LightGuide) this.lightGuide).setFirstNote (firstNote);
+
         final int endNote = firstNote + this.usbDevice.getNumKeys () - 1;
         this.getDisplay ().notify (Scales.formatDrumNote (firstNote) + " to " + Scales.formatDrumNote (endNote));
     }
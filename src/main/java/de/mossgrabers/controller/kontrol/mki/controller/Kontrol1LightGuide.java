@@ -17,6 +17,7 @@ import de.mossgrabers.framework.controller.grid.LightGuideImpl;
 public class Kontrol1LightGuide extends LightGuideImpl
 {
     private final Kontrol1UsbDevice usbDevice;
+    private int                     firstNote;
 
 
     /**
@@ -30,6 +31,30 @@ public class Kontrol1LightGuide extends LightGuideImpl
         super (0, 128, colorManager, null);
 
         this.usbDevice = usbDevice;
+        this.firstNote = usbDevice.getFirstNote ();
+    }
+
+
+    /**
+     * Get the first note of the keyboard, which depends on the octave transposition.
+     *
+     * @return The first note
+     */
+    public int getFirstNote ()
+    {
+        return this.firstNote;
+    }
+
+
+    /**
+     * Set the first note of the keyboard, call it if the octave transposition has changed.
+     *
+     * @param firstNote The first note
+     */
+    public void setFirstNote (final int firstNote)
+    {
+        this.firstNote = firstNote;
+        this.resetControllerTranslation ();
     }
 
 
@@ -39,11 +64,10 @@ public class Kontrol1LightGuide extends LightGuideImpl
     {
         final int [] translated = super.translateToController (note);
 
-        final int firstNote = this.usbDevice.getFirstNote ();
-        if (note < firstNote || note >= firstNote + this.usbDevice.getNumKeys ())
+        if (note < this.firstNote || note >= this.firstNote + this.usbDevice.getNumKeys ())
             translated[1] = -1;
         else
-            translated[1] = note - firstNote;
+            translated[1] = note - this.firstNote;
         return translated;
     }
 
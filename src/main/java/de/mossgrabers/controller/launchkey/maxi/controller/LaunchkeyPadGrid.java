@@ -9,9 +9,6 @@ import de.mossgrabers.framework.controller.grid.PadGridImpl;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.view.Views;
 
-import java.util.HashMap;
-import java.util.Map;
-
 
 /**
  * Implementation of the Launchkey grid of pads.
@@ -40,22 +37,29 @@ public class LaunchkeyPadGrid extends PadGridImpl
     };
     // @formatter:on
 
-    private static final Map<Integer, Integer> INVERSE_MAP_DRUM          = new HashMap<> (16);
-    private static final Map<Integer, Integer> INVERSE_MAP_SESSION       = new HashMap<> (16);
-    private static final Map<Integer, Integer> INVERSE_MAP_DEVICE_SELECT = new HashMap<> (16);
+    // Notes which are not on the grid are not translated
+    private static final int [] INVERSE_MAP_DRUM          = new int [128];
+    private static final int [] INVERSE_MAP_SESSION       = new int [128];
+    private static final int [] INVERSE_MAP_DEVICE_SELECT = new int [128];
 
     static
     {
+        for (int i = 0; i < 128; i++)
+        {
+            INVERSE_MAP_DRUM[i] = i;
+            INVERSE_MAP_SESSION[i] = i;
+            INVERSE_MAP_DEVICE_SELECT[i] = i;
+        }
         for (int i = 0; i < 16; i++)
         {
-            final Integer note = Integer.valueOf (36 + i);
-            INVERSE_MAP_DRUM.put (Integer.valueOf (MAP_DRUM[i]), note);
-            INVERSE_MAP_SESSION.put (Integer.valueOf (MAP_SESSION[i]), note);
-            INVERSE_MAP_DEVICE_SELECT.put (Integer.valueOf (MAP_DEVICE_SELECT[i]), note);
+            final int note = 36 + i;
+            INVERSE_MAP_DRUM[MAP_DRUM[i]] = note;
+            INVERSE_MAP_SESSION[MAP_SESSION[i]] = note;
+            INVERSE_MAP_DEVICE_SELECT[MAP_DEVICE_SELECT[i]] = note;
         }
     }
 
-    private Views activeView;
+    private Views               activeView;
 
 
     /**
@@ -74,28 +78,21 @@ public class LaunchkeyPadGrid extends PadGridImpl
     @Override
     public int translateToGrid (final int note)
     {
-        if (this.activeView == null)
+        if (this.activeView == null || note < 0 || note >= 128)
             return note;
 
-        final Integer n = Integer.valueOf (note);
-        Integer inverse;
         switch (this.activeView)
         {
             case DRUM:
-                inverse = INVERSE_MAP_DRUM.get (n);
-                break;
+                return INVERSE_MAP_DRUM[note];
 
             case DEVICE:
-                inverse = INVERSE_MAP_DEVICE_SELECT.get (n);
-                break;
+                return INVERSE_MAP_DEVICE_SELECT[note];
 
             default:
             case SESSION:
-                inverse = INVERSE_MAP_SESSION.get (n);
-                break;
+                return INVERSE_MAP_SESSION[note];
         }
-
-        return inverse == null ? note : inverse.intValue ();
     }
 
 
@@ -177,5 +174,6 @@ public class LaunchkeyPadGrid extends PadGridImpl
     public void setView (final Views view)
     {
         this.activeView = view;
+        this.resetControllerTranslation ();
     }
 }
\ No newline at end of file
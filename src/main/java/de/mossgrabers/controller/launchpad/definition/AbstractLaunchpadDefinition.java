@@ -8,13 +8,10 @@ import de.mossgrabers.controller.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.launchpad.definition.button.ButtonSetup;
 import de.mossgrabers.controller.launchpad.definition.button.LaunchpadButton;
 import de.mossgrabers.framework.controller.DefaultControllerDefinition;
-import de.mossgrabers.framework.controller.grid.LightInfo;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.controller.grid.PackedLightInfos;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.UUID;
 
 
@@ -25,7 +22,9 @@ import java.util.UUID;
  */
 public abstract class AbstractLaunchpadDefinition extends DefaultControllerDefinition implements ILaunchpadControllerDefinition
 {
-    protected final ButtonSetup buttonSetup = new ButtonSetup ();
+    protected final ButtonSetup buttonSetup      = new ButtonSetup ();
+
+    private byte []             sysExHeaderBytes;
 
 
     /**
@@ -110,35 +109,49 @@ public abstract class AbstractLaunchpadDefinition extends DefaultControllerDefin
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public void sendLEDUpdate (final IMidiOutput output, final SysexBuilder sysex, final PackedLightInfos padInfos)
     {
-        final StringBuilder sb = new StringBuilder (this.getSysExHeader ()).append ("03 ");
-        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
+        sysex.start (this.getSysExHeaderBytes ()).addByte (0x03);
+        for (int note = padInfos.next (0); note >= 0; note = padInfos.next (note + 1))
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
+            final int info = padInfos.get (note);
+            final int color = PackedLightInfos.getColor (info);
+            final int blinkColor = PackedLightInfos.getBlinkColor (info);
 
-            if (info.getBlinkColor () <= 0)
+            if (blinkColor <= 0)
             {
                 // 00h: Static colour from palette, Lighting data is 1 byte specifying palette
                 // entry.
-                sb.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                sysex.addByte (0x00).add7Bit (note).add7Bit (color);
             }
             else
             {
-                if (info.isFast ())
+                if (PackedLightInfos.isFast (info))
                 {
                     // 01h: Flashing colour, Lighting data is 2 bytes specifying Colour B and
                     // Colour A.
-                    sb.append ("01 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                    sysex.addByte (0x01).add7Bit (note).add7Bit (blinkColor).add7Bit (color);
                 }
                 else
                 {
                     // 02h: Pulsing colour, Lighting data is 1 byte specifying palette entry.
-                    sb.append ("02 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                    sysex.addByte (0x02).add7Bit (note).add7Bit (color);
                 }
             }
         }
-        return Collections.singletonList (sb.append ("F7").toString ());
+        sysex.send (output);
+    }
+
+
+    /**
+     * Get the MIDI system exclusive header of the specific Launchpad.
+     *
+     * @return The header as bytes
+     */
+    protected byte [] getSysExHeaderBytes ()
+    {
+        if (this.sysExHeaderBytes == null)
+            this.sysExHeaderBytes = SysexBuilder.parseHex (this.getSysExHeader ());
+        return this.sysExHeaderBytes;
     }
 }
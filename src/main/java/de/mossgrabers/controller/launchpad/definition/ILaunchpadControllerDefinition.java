@@ -6,10 +6,9 @@ package de.mossgrabers.controller.launchpad.definition;
 
 import de.mossgrabers.controller.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.launchpad.definition.button.ButtonSetup;
-import de.mossgrabers.framework.controller.grid.LightInfo;
-
-import java.util.List;
-import java.util.Map;
+import de.mossgrabers.framework.controller.grid.PackedLightInfos;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
 
 /**
@@ -93,10 +92,11 @@ public interface ILaunchpadControllerDefinition
 
 
     /**
-     * Create an update sysex string for all given pads.
+     * Send the update sysex message(s) for all given pads.
      *
+     * @param output The output to send the messages to
+     * @param sysex The builder to use for the messages
      * @param padInfos The info how to update the pads
-     * @return The sysex string
      */
-    List<String> buildLEDUpdate (Map<Integer, LightInfo> padInfos);
+    void sendLEDUpdate (IMidiOutput output, SysexBuilder sysex, PackedLightInfos padInfos);
 }
@@ -6,15 +6,14 @@ package de.mossgrabers.controller.launchpad.definition;
 
 import de.mossgrabers.controller.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.launchpad.definition.button.LaunchpadButton;
-import de.mossgrabers.framework.controller.grid.LightInfo;
+import de.mossgrabers.framework.controller.grid.PackedLightInfos;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.OperatingSystem;
 import de.mossgrabers.framework.utils.Pair;
 import de.mossgrabers.framework.utils.StringUtils;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.UUID;
 
 
@@ -144,36 +143,39 @@ public class LaunchpadProControllerDefinition extends AbstractLaunchpadDefinitio
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public void sendLEDUpdate (final IMidiOutput output, final SysexBuilder sysex, final PackedLightInfos padInfos)
     {
-        final StringBuilder sbNormal = new StringBuilder ();
-        final StringBuilder sbFlash = new StringBuilder ();
-        final StringBuilder sbPulse = new StringBuilder ();
+        sysex.start (this.getSysExHeaderBytes ()).addByte (0x0A);
+        for (int note = padInfos.next (0); note >= 0; note = padInfos.next (note + 1))
+            sysex.add7Bit (note).add7Bit (PackedLightInfos.getColor (padInfos.get (note)));
+        sysex.send (output);
 
-        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
+        this.sendBlinkUpdate (output, sysex, padInfos, 0x23, true);
+        this.sendBlinkUpdate (output, sysex, padInfos, 0x28, false);
+    }
+
+
+    /**
+     * Send the blink colors of all flashing or all pulsing pads, if there are any.
+     *
+     * @param output The output to send the message to
+     * @param sysex The builder to use for the message
+     * @param padInfos The info how to update the pads
+     * @param command The sysex command for flashing or pulsing
+     * @param isFast True to send the flashing pads, false for the pulsing pads
+     */
+    private void sendBlinkUpdate (final IMidiOutput output, final SysexBuilder sysex, final PackedLightInfos padInfos, final int command, final boolean isFast)
+    {
+        sysex.start (this.getSysExHeaderBytes ()).addByte (command);
+        final int start = sysex.getLength ();
+        for (int note = padInfos.next (0); note >= 0; note = padInfos.next (note + 1))
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
-
-            sbNormal.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
-
-            if (info.getBlinkColor () > 0)
-            {
-                if (info.isFast ())
-                    sbFlash.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
-                else
-                    sbPulse.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
-            }
+            final int info = padInfos.get (note);
+            final int blinkColor = PackedLightInfos.getBlinkColor (info);
+            if (blinkColor > 0 && PackedLightInfos.isFast (info) == isFast)
+                sysex.add7Bit (note).add7Bit (blinkColor);
         }
-
-        final List<String> result = new ArrayList<> (3);
-        final String sysExHeader = this.getSysExHeader ();
-        if (sbNormal.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("0A ").append (sbNormal).append ("F7").toString ());
-        if (sbFlash.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("23 ").append (sbFlash).append ("F7").toString ());
-        if (sbPulse.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("28 ").append (sbPulse).append ("F7").toString ());
-        return result;
+        if (sysex.getLength () > start)
+            sysex.send (output);
     }
 }
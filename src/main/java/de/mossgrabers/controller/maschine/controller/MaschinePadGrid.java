@@ -6,11 +6,9 @@ package de.mossgrabers.controller.maschine.controller;
 
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.BlinkingPadGrid;
-import de.mossgrabers.framework.controller.grid.LightInfo;
+import de.mossgrabers.framework.controller.grid.PackedLightInfos;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
-import java.util.Map.Entry;
-
 
 /**
  * Implementation of the Maschine grid of pads.
@@ -33,23 +31,22 @@ public class MaschinePadGrid extends BlinkingPadGrid
 
     /** {@inheritDoc} */
     @Override
-    protected void updateController ()
+    protected void updateController (final PackedLightInfos padInfos)
     {
         final int channel = 0;
 
-        for (final Entry<Integer, LightInfo> e: this.padInfos.entrySet ())
+        for (int note = padInfos.next (0); note >= 0; note = padInfos.next (note + 1))
         {
-            final Integer note = e.getKey ();
-            final LightInfo info = e.getValue ();
+            final int info = padInfos.get (note);
 
             // Note: The exact PADx is not needed for getting the color
 
-            this.output.sendNoteEx (channel, note.intValue (), info.getColor ());
+            this.output.sendNoteEx (channel, note, PackedLightInfos.getColor (info));
 
             // Hardware does not support blinking, therefore needs to be implemented the hard
             // way
-            if (info.getBlinkColor () > 0)
-                this.blinkingLights.put (note, info);
+            if (PackedLightInfos.getBlinkColor (info) > 0)
+                this.blinkingLights.set (note, info);
             else
                 this.blinkingLights.remove (note);
         }
@@ -57,11 +54,10 @@ public class MaschinePadGrid extends BlinkingPadGrid
         // Toggle blink colors every 600ms
         if (!this.checkBlinking ())
             return;
-        for (final Entry<Integer, LightInfo> value: this.blinkingLights.entrySet ())
+        for (int note = this.blinkingLights.next (0); note >= 0; note = this.blinkingLights.next (note + 1))
         {
-            final LightInfo info = value.getValue ();
-            final int colorIndex = this.isBlink ? info.getBlinkColor () : info.getColor ();
-            final int note = value.getKey ().intValue ();
+            final int info = this.blinkingLights.get (note);
+            final int colorIndex = this.isBlink ? PackedLightInfos.getBlinkColor (info) : PackedLightInfos.getColor (info);
             this.output.sendNoteEx (channel, note, colorIndex);
         }
     }
@@ -415,7 +415,7 @@ public class PlayView extends AbstractPlayView<MaschineControlSurface, MaschineC
             duplicateButton.setConsumed ();
             final IStepInfo noteStep = clip.getStep (channel, step, note);
             if (noteStep.getState () == IStepInfo.NOTE_START)
-                this.copyNote = noteStep;
+                this.copyNote = noteStep.createCopy ();
             else if (this.copyNote != null)
                 clip.setStep (channel, step, note, this.copyNote);
             return true;
@@ -8,6 +8,8 @@ import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.MidiPriority;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.LatestTaskExecutor;
 import de.mossgrabers.framework.utils.StringUtils;
 
@@ -21,15 +23,17 @@ import java.util.concurrent.TimeUnit;
  */
 public class MCUDisplay extends AbstractTextDisplay
 {
-    private static final String         SYSEX_DISPLAY_HEADER1_MAIN     = "F0 00 00 66 14 12 ";
-    private static final String         SYSEX_DISPLAY_HEADER1_EXTENDER = "F0 00 00 66 15 12 ";
-    private static final String         SYSEX_DISPLAY_HEADER2          = "F0 00 00 67 15 13 ";
+    private static final byte []        SYSEX_DISPLAY_HEADER1_MAIN     = SysexBuilder.parseHex ("F0 00 00 66 14 12");
+    private static final byte []        SYSEX_DISPLAY_HEADER1_EXTENDER = SysexBuilder.parseHex ("F0 00 00 66 15 12");
+    private static final byte []        SYSEX_DISPLAY_HEADER2          = SysexBuilder.parseHex ("F0 00 00 67 15 13");
 
     private final boolean               isFirstDisplay;
     private final boolean               isExtender;
     private final boolean               hasMaster;
 
     private final LatestTaskExecutor [] executors                      = new LatestTaskExecutor [4];
+    // One builder for each executor since they run on different threads
+    private final SysexBuilder []       sysexBuilders                  = new SysexBuilder [4];
 
 
     /**
@@ -51,7 +55,10 @@ public class MCUDisplay extends AbstractTextDisplay
         this.isExtender = isMCUExtender;
 
         for (int i = 0; i < 4; i++)
+        {
             this.executors[i] = new LatestTaskExecutor ();
+            this.sysexBuilders[i] = new SysexBuilder ();
+        }
     }
 
 
@@ -91,18 +98,16 @@ public class MCUDisplay extends AbstractTextDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        final LatestTaskExecutor executor = this.executors[row + (this.isFirstDisplay ? 0 : 2)];
+        final int index = row + (this.isFirstDisplay ? 0 : 2);
+        final LatestTaskExecutor executor = this.executors[index];
+        final SysexBuilder sysex = this.sysexBuilders[index];
         if (executor.isShutdown ())
             return;
 
         executor.execute ( () -> {
             try
             {
-                final int length = text.length ();
-                final int [] array = new int [length];
-                for (int i = 0; i < length; i++)
-                    array[i] = text.charAt (i);
-                this.output.sendSysex (new StringBuilder (this.getHeader ()).append (row == 0 ? "00 " : "38 ").append (StringUtils.toHexStr (array)).append ("F7").toString ());
+                sysex.start (this.getHeader ()).addByte (row == 0 ? 0x00 : 0x38).addAscii (text).send (this.output, MidiPriority.DISPLAY);
             }
             catch (final RuntimeException ex)
             {
@@ -112,7 +117,7 @@ public class MCUDisplay extends AbstractTextDisplay
     }
 
 
-    private String getHeader ()
+    private byte [] getHeader ()
     {
         if (this.isFirstDisplay)
             return this.isExtender ? SYSEX_DISPLAY_HEADER1_EXTENDER : SYSEX_DISPLAY_HEADER1_MAIN;
@@ -56,6 +56,10 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     private int                    receivePort               = 8000;
     private String                 sendHost                  = DEFAULT_SERVER;
     private int                    sendPort                  = 9000;
+    private String                 additionalSendTargets     = "";
+    private String                 sendFilter                = "";
+    private String                 subscribeHosts            = "";
+    private int                    meterRate                 = 30;
     private ValueResolution        valueResolution           = ValueResolution.LOW;
     private int                    bankPageSize              = 8;
     private String []              assignableFunctionActions = new String [8];
@@ -96,6 +100,15 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         final IIntegerSetting sendPortSetting = globalSettings.getRangeSetting ("Port to send to (requires restart)", CATEGORY_SETUP, 1024, 65535, 1, "", 9000);
         this.sendPort = sendPortSetting.get ().intValue ();
 
+        final IStringSetting additionalSendTargetsSetting = globalSettings.getStringSetting ("Additional host:port to send to, comma separated (requires restart)", CATEGORY_SETUP, 200, "");
+        this.additionalSendTargets = additionalSendTargetsSetting.get ();
+
+        final IStringSetting sendFilterSetting = globalSettings.getStringSetting ("Only send addresses, comma separated, e.g. /track/*/volume (requires restart)", CATEGORY_SETUP, 200, "");
+        this.sendFilter = sendFilterSetting.get ();
+
+        final IStringSetting subscribeHostsSetting = globalSettings.getStringSetting ("Hosts which can be added with /subscribe, comma separated, empty to disable (requires restart)", CATEGORY_SETUP, 200, "");
+        this.subscribeHosts = subscribeHostsSetting.get ();
+
         ///////////////////////////
         // Protocol
 
@@ -118,6 +131,9 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         final IEnumSetting bankPageSizeSetting = globalSettings.getEnumSetting ("Bank Page Size (requires restart)", CATEGORY_PROTOCOL, pageSize, pageSize[7]);
         this.bankPageSize = Integer.parseInt (bankPageSizeSetting.get ());
 
+        final IIntegerSetting meterRateSetting = globalSettings.getRangeSetting ("VU meter and position rate", CATEGORY_PROTOCOL, 1, 60, 1, "Hz", 30);
+        meterRateSetting.addValueObserver (value -> this.meterRate = value.intValue ());
+
         ///////////////////////////
         // Transport
 
@@ -185,6 +201,50 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     }
 
 
+    /**
+     * Get the additional hosts and ports to which the extension sends OSC messages.
+     *
+     * @return The hosts and ports formatted as host:port, separated by commas
+     */
+    public String getAdditionalSendTargets ()
+    {
+        return this.additionalSendTargets;
+    }
+
+
+    /**
+     * Get the address patterns which are sent to the configured hosts.
+     *
+     * @return The address patterns separated by commas, empty to send all addresses
+     */
+    public String getSendFilter ()
+    {
+        return this.sendFilter;
+    }
+
+
+    /**
+     * Get the hosts which can be added as clients with the /subscribe command.
+     *
+     * @return The host names or IP addresses separated by commas, empty if no client can subscribe
+     */
+    public String getSubscribeHosts ()
+    {
+        return this.subscribeHosts;
+    }
+
+
+    /**
+     * Get how often per second the VU meters and the play position are sent.
+     *
+     * @return The rate in Hertz
+     */
+    public int getMeterRate ()
+    {
+        return this.meterRate;
+    }
+
+
     /**
      * Get the selected value resolution.
      *
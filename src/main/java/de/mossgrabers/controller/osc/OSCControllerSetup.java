@@ -18,6 +18,7 @@ import de.mossgrabers.controller.osc.module.SceneModule;
 import de.mossgrabers.controller.osc.module.TrackModule;
 import de.mossgrabers.controller.osc.module.TransportModule;
 import de.mossgrabers.controller.osc.module.UserModule;
+import de.mossgrabers.controller.osc.protocol.OSCMeterChannel;
 import de.mossgrabers.controller.osc.protocol.OSCParser;
 import de.mossgrabers.controller.osc.protocol.OSCWriter;
 import de.mossgrabers.framework.configuration.ISettingsUI;
@@ -32,13 +33,13 @@ import de.mossgrabers.framework.daw.constants.DeviceID;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
-import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlServer;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.KeyManager;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 
@@ -50,6 +51,7 @@ import java.util.List;
 public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<OSCConfiguration>, OSCConfiguration>
 {
     private OSCWriter               writer;
+    private OSCMeterChannel         meterChannel;
     private KeyManager              keyManager;
     private IOpenSoundControlServer oscServer;
 
@@ -179,22 +181,37 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         this.keyManager = new KeyManager (this.model, this.model.getScales (), surface.getPadGrid ());
 
         // Send OSC messages
-        final String sendHost = this.configuration.getSendHost ();
-        final int sendPort = this.configuration.getSendPort ();
-        this.host.println (String.format ("Connecting to OSC server %s:%d", sendHost, Integer.valueOf (sendPort)));
-        final IOpenSoundControlClient oscClient = this.host.connectToOSCServer (sendHost, sendPort);
-        this.writer = new OSCWriter (this.host, this.model, oscClient, this.configuration);
+        this.writer = new OSCWriter (this.host, this.model, this.configuration);
+        this.connectClient (this.configuration.getSendHost (), this.configuration.getSendPort ());
+        for (final String target: this.configuration.getAdditionalSendTargets ().split (","))
+        {
+            if (target.trim ().isEmpty ())
+                continue;
+            final String [] parts = target.trim ().split (":");
+            try
+            {
+                if (parts.length != 2)
+                    throw new NumberFormatException ();
+                this.connectClient (parts[0].trim (), Integer.parseInt (parts[1].trim ()));
+            }
+            catch (final NumberFormatException ex)
+            {
+                this.host.error ("Additional OSC send target must be formatted as host:port: " + target);
+            }
+        }
+
+        this.meterChannel = new OSCMeterChannel (this.host, this.writer, this.configuration);
 
         // Receive OSC messages
         final OSCParser parser = new OSCParser (this.host, surface, this.model, this.configuration, this.writer, input, this.keyManager);
 
         final List<IModule> modules = new ArrayList<> ();
-        modules.add (new TransportModule (this.host, this.model, surface, this.writer));
+        modules.add (new TransportModule (this.host, this.model, surface, this.writer, this.meterChannel));
         modules.add (new GlobalModule (this.host, this.model, this.writer));
         modules.add (new LayoutModule (this.host, this.model, this.writer));
         modules.add (new MarkerModule (this.host, this.model, this.writer));
         modules.add (new ProjectModule (this.host, this.model, this.writer));
-        modules.add (new TrackModule (this.host, this.model, this.writer, this.configuration));
+        modules.add (new TrackModule (this.host, this.model, this.writer, this.configuration, this.meterChannel));
         modules.add (new SceneModule (this.host, this.model, this.writer));
         modules.add (new DeviceModule (this.host, this.model, this.writer, this.configuration));
         modules.add (new BrowserModule (this.host, this.model, this.writer));
@@ -212,11 +229,40 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
     }
 
 
+    /**
+     * Connect to an OSC server and register it as a client of the writer, which only receives the
+     * configured addresses.
+     *
+     * @param sendHost The host of the OSC server
+     * @param sendPort The port of the OSC server
+     */
+    private void connectClient (final String sendHost, final int sendPort)
+    {
+        this.host.println (String.format ("Connecting to OSC server %s:%d", sendHost, Integer.valueOf (sendPort)));
+        final String id = sendHost + ":" + sendPort;
+        this.writer.addClient (id, this.host.connectToOSCServer (sendHost, sendPort));
+        this.writer.setSubscriptions (id, Arrays.asList (this.configuration.getSendFilter ().split (",")));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void startup ()
     {
         // Initial flush of the whole DAW state
         this.host.scheduleTask ( () -> this.writer.flush (true), 1000);
+        this.meterChannel.start ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void exit ()
+    {
+        this.meterChannel.stop ();
+
+        super.exit ();
+
+        this.host.releaseOSC ();
     }
 }
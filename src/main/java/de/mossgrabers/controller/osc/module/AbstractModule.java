@@ -6,15 +6,17 @@ package de.mossgrabers.controller.osc.module;
 
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IClip;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.daw.data.ISend;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlAddress;
 
-import java.util.LinkedList;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -81,79 +83,102 @@ public abstract class AbstractModule implements IModule
     }
 
 
+    /**
+     * Test if the message has a first value, which is not null.
+     *
+     * @param message The message
+     * @return True if there is a value
+     */
+    protected static boolean hasValue (final IOpenSoundControlMessage message)
+    {
+        return message.size () > 0 && message.getValue (0) != null;
+    }
+
+
     /**
      * Test for a trigger value.
      *
-     * @param value The value to test
-     * @return Returns true if the value is null or a number with a positive value greater 0
+     * @param message The message with the value to test
+     * @return Returns true if there is no value or a number with a positive value greater 0
      */
-    protected static boolean isTrigger (final Object value)
+    protected static boolean isTrigger (final IOpenSoundControlMessage message)
     {
-        return value == null || value instanceof Number && ((Number) value).doubleValue () > 0;
+        return !hasValue (message) || isNumber (message) && message.getDouble (0) > 0;
     }
 
 
     /**
-     * Converts the given value to an integer.
+     * Converts the first value of the message to an integer.
      *
-     * @param value The value
+     * @param message The message with the value
      * @return The value is converted to an integer
-     * @throws IllegalParameterException If the value is null or not a number
+     * @throws IllegalParameterException If there is no value or not a number
      */
-    protected static int toInteger (final Object value) throws IllegalParameterException
+    protected static int toInteger (final IOpenSoundControlMessage message) throws IllegalParameterException
     {
-        return (int) toNumber (value);
+        checkNumber (message);
+        return message.getInt (0);
     }
 
 
     /**
-     * Converts the given value to a number.
+     * Converts the first value of the message to a number.
      *
-     * @param value The value
-     * @param defaultValue The default value to return if value is null
-     * @return If the value is null the default value is returned, otherwise the value is converted
+     * @param message The message with the value
+     * @param defaultValue The default value to return if there is no value
+     * @return If there is no value the default value is returned, otherwise the value is converted
      *         to a double
      * @throws IllegalParameterException If the value is not null and not a number
      */
-    protected static double toNumber (final Object value, final double defaultValue) throws IllegalParameterException
+    protected static double toNumber (final IOpenSoundControlMessage message, final double defaultValue) throws IllegalParameterException
     {
-        if (value == null)
+        if (!hasValue (message))
             return defaultValue;
-        if (value instanceof Number)
-            return ((Number) value).doubleValue ();
-        throw new IllegalParameterException ("Parameter is not a Number");
+        return toNumber (message);
     }
 
 
     /**
-     * Converts the given value to a number.
+     * Converts the first value of the message to a number.
      *
-     * @param value The value
+     * @param message The message with the value
      * @return The value is converted to a double
-     * @throws IllegalParameterException If the value is null or not a number
+     * @throws IllegalParameterException If there is no value or not a number
      */
-    protected static double toNumber (final Object value) throws IllegalParameterException
+    protected static double toNumber (final IOpenSoundControlMessage message) throws IllegalParameterException
     {
-        if (value == null)
-            throw new IllegalParameterException ("Number parameter missing");
-        if (value instanceof Number)
-            return ((Number) value).doubleValue ();
-        throw new IllegalParameterException ("Parameter is not a Number");
+        checkNumber (message);
+        return message.getDouble (0);
     }
 
 
     /**
-     * Converts the given value to a string.
+     * Converts the first value of the message to a string.
      *
-     * @param value The value
+     * @param message The message with the value
      * @return The value is converted to a string
-     * @throws IllegalParameterException If the value is null
+     * @throws IllegalParameterException If there is no value
      */
-    protected static String toString (final Object value) throws IllegalParameterException
+    protected static String toString (final IOpenSoundControlMessage message) throws IllegalParameterException
     {
-        if (value == null)
+        if (!hasValue (message))
             throw new IllegalParameterException ("String parameter missing");
-        return value.toString ();
+        return message.getString (0);
+    }
+
+
+    private static boolean isNumber (final IOpenSoundControlMessage message)
+    {
+        return message.getValue (0) instanceof Number;
+    }
+
+
+    private static void checkNumber (final IOpenSoundControlMessage message) throws IllegalParameterException
+    {
+        if (!hasValue (message))
+            throw new IllegalParameterException ("Number parameter missing");
+        if (!isNumber (message))
+            throw new IllegalParameterException ("Parameter is not a Number");
     }
 
 
@@ -164,7 +189,7 @@ public abstract class AbstractModule implements IModule
      * @return The sub-command
      * @throws MissingCommandException If the path is empty
      */
-    protected static String getSubCommand (final LinkedList<String> path) throws MissingCommandException
+    protected static String getSubCommand (final OSCPath path) throws MissingCommandException
     {
         if (path.isEmpty ())
             throw new MissingCommandException ();
@@ -180,14 +205,17 @@ public abstract class AbstractModule implements IModule
      * @param fxParam The parameter
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    protected void flushParameterData (final IOpenSoundControlWriter writer, final String fxAddress, final IParameter fxParam, final boolean dump)
+    protected void flushParameterData (final IOpenSoundControlWriter writer, final OpenSoundControlAddress fxAddress, final IParameter fxParam, final boolean dump)
     {
+        if (!writer.isSubscribed (fxAddress))
+            return;
+
         final boolean isSend = fxParam instanceof ISend;
 
-        writer.sendOSC (fxAddress + TAG_NAME, fxParam.getName (), dump);
-        writer.sendOSC (fxAddress + (isSend ? "volumeStr" : "valueStr"), fxParam.getDisplayedValue (), dump);
-        writer.sendOSC (fxAddress + (isSend ? TAG_VOLUME : "value"), fxParam.getValue (), dump);
-        writer.sendOSC (fxAddress + "modulatedValue", fxParam.getModulatedValue (), dump);
+        writer.sendOSC (fxAddress.get (TAG_NAME), fxParam.getName (), dump);
+        writer.sendOSC (fxAddress.get (isSend ? "volumeStr" : "valueStr"), fxParam.getDisplayedValue (), dump);
+        writer.sendOSC (fxAddress.get (isSend ? TAG_VOLUME : "value"), fxParam.getValue (), dump);
+        writer.sendOSC (fxAddress.get ("modulatedValue"), fxParam.getModulatedValue (), dump);
     }
 
 
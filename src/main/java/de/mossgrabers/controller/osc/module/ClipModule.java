@@ -7,15 +7,15 @@ package de.mossgrabers.controller.osc.module;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.INoteClip;
 import de.mossgrabers.framework.daw.data.ISlot;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 
-import java.util.LinkedList;
-
 
 /**
  * All cursor clip related commands.
@@ -50,7 +50,7 @@ public class ClipModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final IOpenSoundControlMessage message) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if (!"clip".equals (command))
             throw new UnknownCommandException (command);
@@ -61,10 +61,10 @@ public class ClipModule extends AbstractModule
         switch (subCommand)
         {
             case "pinned":
-                if (value == null)
+                if (!hasValue (message))
                     cursorClip.togglePinned ();
                 else
-                    cursorClip.setPinned (isTrigger (value));
+                    cursorClip.setPinned (isTrigger (message));
                 break;
 
             case "+":
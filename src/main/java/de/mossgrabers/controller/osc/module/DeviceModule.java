@@ -8,6 +8,7 @@ import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
@@ -28,9 +29,9 @@ import de.mossgrabers.framework.daw.data.bank.IParameterBank;
 import de.mossgrabers.framework.daw.data.bank.IParameterPageBank;
 import de.mossgrabers.framework.daw.data.bank.ISendBank;
 import de.mossgrabers.framework.daw.data.empty.EmptyLayer;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
-
-import java.util.LinkedList;
+import de.mossgrabers.framework.osc.OpenSoundControlAddress;
 
 
 /**
@@ -40,7 +41,10 @@ import java.util.LinkedList;
  */
 public class DeviceModule extends AbstractModule
 {
-    private final OSCConfiguration configuration;
+    private final OSCConfiguration        configuration;
+    private final OpenSoundControlAddress cursorDeviceAddress;
+    private final OpenSoundControlAddress primaryAddress;
+    private final OpenSoundControlAddress eqAddress;
 
 
     /**
@@ -56,6 +60,10 @@ public class DeviceModule extends AbstractModule
         super (host, model, writer);
 
         this.configuration = configuration;
+
+        this.cursorDeviceAddress = writer.getAddress ("/device");
+        this.primaryAddress = writer.getAddress ("/primary");
+        this.eqAddress = writer.getAddress ("/eq");
     }
 
 
@@ -74,22 +82,22 @@ public class DeviceModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final IOpenSoundControlMessage message) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         switch (command)
         {
             case "device":
-                this.parseCursorDeviceValue (this.model.getCursorDevice (), path, value);
+                this.parseCursorDeviceValue (this.model.getCursorDevice (), path, message);
                 break;
 
             case "primary":
-                this.parseDeviceValue (this.model.getSpecificDevice (DeviceID.FIRST_INSTRUMENT), path, value);
+                this.parseDeviceValue (this.model.getSpecificDevice (DeviceID.FIRST_INSTRUMENT), path, message);
                 break;
 
             case "eq":
                 final IEqualizerDevice specificDevice = (IEqualizerDevice) this.model.getSpecificDevice (DeviceID.EQ);
-                if (!this.parseEqValue (specificDevice, path, value))
-                    this.parseDeviceValue (specificDevice, path, value);
+                if (!this.parseEqValue (specificDevice, path, message))
+                    this.parseDeviceValue (specificDevice, path, message);
                 break;
 
             default:
@@ -103,22 +111,22 @@ public class DeviceModule extends AbstractModule
     public void flush (final boolean dump)
     {
         final ICursorDevice cd = this.model.getCursorDevice ();
-        this.flushDevice (this.writer, "/device/", cd, dump);
-        this.writer.sendOSC ("/device/pinned", cd.isPinned (), dump);
+        this.flushDevice (this.writer, this.cursorDeviceAddress, cd, dump);
+        this.writer.sendOSC (this.cursorDeviceAddress.get ("pinned"), cd.isPinned (), dump);
         if (cd.hasDrumPads ())
         {
             final IDrumPadBank drumPadBank = cd.getDrumPadBank ();
             for (int i = 0; i < drumPadBank.getPageSize (); i++)
-                this.flushDeviceLayer (this.writer, "/device/drumpad/" + (i + 1) + "/", drumPadBank.getItem (i), dump);
+                this.flushDeviceLayer (this.writer, this.cursorDeviceAddress.get ("drumpad").get (i + 1), drumPadBank.getItem (i), dump);
         }
         final ILayerBank layerBank = cd.getLayerBank ();
         for (int i = 0; i < layerBank.getPageSize (); i++)
-            this.flushDeviceLayer (this.writer, "/device/layer/" + (i + 1) + "/", layerBank.getItem (i), dump);
+            this.flushDeviceLayer (this.writer, this.cursorDeviceAddress.get ("layer").get (i + 1), layerBank.getItem (i), dump);
         final ILayer selectedLayer = layerBank.getSelectedItem ();
-        this.flushDeviceLayer (this.writer, "/device/layer/selected/", selectedLayer == null ? EmptyLayer.INSTANCE : selectedLayer, dump);
+        this.flushDeviceLayer (this.writer, this.cursorDeviceAddress.get ("layer").get ("selected"), selectedLayer == null ? EmptyLayer.INSTANCE : selectedLayer, dump);
 
-        this.flushDevice (this.writer, "/primary/", this.model.getSpecificDevice (DeviceID.FIRST_INSTRUMENT), dump);
-        this.flushDevice (this.writer, "/eq/", this.model.getSpecificDevice (DeviceID.EQ), dump);
+        this.flushDevice (this.writer, this.primaryAddress, this.model.getSpecificDevice (DeviceID.FIRST_INSTRUMENT), dump);
+        this.flushDevice (this.writer, this.eqAddress, this.model.getSpecificDevice (DeviceID.EQ), dump);
     }
 
 
@@ -130,14 +138,17 @@ public class DeviceModule extends AbstractModule
      * @param device The device
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushDevice (final IOpenSoundControlWriter writer, final String deviceAddress, final ISpecificDevice device, final boolean dump)
+    private void flushDevice (final IOpenSoundControlWriter writer, final OpenSoundControlAddress deviceAddress, final ISpecificDevice device, final boolean dump)
     {
-        writer.sendOSC (deviceAddress + TAG_EXISTS, device.doesExist (), dump);
-        writer.sendOSC (deviceAddress + TAG_NAME, device.getName (), dump);
-        writer.sendOSC (deviceAddress + "bypass", !device.isEnabled (), dump);
-        writer.sendOSC (deviceAddress + "expand", device.isExpanded (), dump);
-        writer.sendOSC (deviceAddress + "parameters", device.isParameterPageSectionVisible (), dump);
-        writer.sendOSC (deviceAddress + "window", device.isWindowOpen (), dump);
+        if (!writer.isSubscribed (deviceAddress))
+            return;
+
+        writer.sendOSC (deviceAddress.get (TAG_EXISTS), device.doesExist (), dump);
+        writer.sendOSC (deviceAddress.get (TAG_NAME), device.getName (), dump);
+        writer.sendOSC (deviceAddress.get ("bypass"), !device.isEnabled (), dump);
+        writer.sendOSC (deviceAddress.get ("expand"), device.isExpanded (), dump);
+        writer.sendOSC (deviceAddress.get ("parameters"), device.isParameterPageSectionVisible (), dump);
+        writer.sendOSC (deviceAddress.get ("window"), device.isWindowOpen (), dump);
 
         if (device instanceof IEqualizerDevice)
         {
@@ -146,10 +157,10 @@ public class DeviceModule extends AbstractModule
             {
                 final int oneplus = i + 1;
 
-                writer.sendOSC (deviceAddress + "type/" + oneplus + "/value", eqDevice.getType (i), dump);
-                this.flushParameterData (writer, deviceAddress + "gain/" + oneplus + "/", eqDevice.getGain (i), dump);
-                this.flushParameterData (writer, deviceAddress + "freq/" + oneplus + "/", eqDevice.getFrequency (i), dump);
-                this.flushParameterData (writer, deviceAddress + "q/" + oneplus + "/", eqDevice.getQ (i), dump);
+                writer.sendOSC (deviceAddress.get ("type").get (oneplus).get ("value"), eqDevice.getType (i), dump);
+                this.flushParameterData (writer, deviceAddress.get ("gain").get (oneplus), eqDevice.getGain (i), dump);
+                this.flushParameterData (writer, deviceAddress.get ("freq").get (oneplus), eqDevice.getFrequency (i), dump);
+                this.flushParameterData (writer, deviceAddress.get ("q").get (oneplus), eqDevice.getQ (i), dump);
             }
             return;
         }
@@ -161,8 +172,9 @@ public class DeviceModule extends AbstractModule
             for (int i = 0; i < deviceBank.getPageSize (); i++)
             {
                 final int oneplus = i + 1;
-                writer.sendOSC (deviceAddress + "sibling/" + oneplus + "/name", deviceBank.getItem (i).getName (), dump);
-                writer.sendOSC (deviceAddress + "sibling/" + oneplus + "/selected", i == positionInBank, dump);
+                final OpenSoundControlAddress siblingAddress = deviceAddress.get ("sibling").get (oneplus);
+                writer.sendOSC (siblingAddress.get (TAG_NAME), deviceBank.getItem (i).getName (), dump);
+                writer.sendOSC (siblingAddress.get (TAG_SELECTED), i == positionInBank, dump);
             }
         }
 
@@ -170,7 +182,7 @@ public class DeviceModule extends AbstractModule
         for (int i = 0; i < parameterBank.getPageSize (); i++)
         {
             final int oneplus = i + 1;
-            this.flushParameterData (writer, deviceAddress + "param/" + oneplus + "/", parameterBank.getItem (i), dump);
+            this.flushParameterData (writer, deviceAddress.get (TAG_PARAM).get (oneplus), parameterBank.getItem (i), dump);
         }
 
         final IParameterPageBank parameterPageBank = device.getParameterPageBank ();
@@ -178,10 +190,11 @@ public class DeviceModule extends AbstractModule
         for (int i = 0; i < parameterPageBank.getPageSize (); i++)
         {
             final int oneplus = i + 1;
-            writer.sendOSC (deviceAddress + "page/" + oneplus + "/", parameterPageBank.getItem (i), dump);
-            writer.sendOSC (deviceAddress + "page/" + oneplus + "/selected", selectedParameterPage == i, dump);
+            final OpenSoundControlAddress pageAddress = deviceAddress.get (TAG_PAGE).get (oneplus);
+            writer.sendOSC (pageAddress.get (""), parameterPageBank.getItem (i), dump);
+            writer.sendOSC (pageAddress.get (TAG_SELECTED), selectedParameterPage == i, dump);
         }
-        writer.sendOSC (deviceAddress + "page/selected/name", parameterPageBank.getSelectedItem (), dump);
+        writer.sendOSC (deviceAddress.get ("page").get ("selected").get ("name"), parameterPageBank.getSelectedItem (), dump);
     }
 
 
@@ -193,35 +206,35 @@ public class DeviceModule extends AbstractModule
      * @param channel The channel of the layer
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushDeviceLayer (final IOpenSoundControlWriter writer, final String deviceAddress, final IChannel channel, final boolean dump)
+    private void flushDeviceLayer (final IOpenSoundControlWriter writer, final OpenSoundControlAddress deviceAddress, final IChannel channel, final boolean dump)
     {
-        if (channel == null)
+        if (channel == null || !writer.isSubscribed (deviceAddress))
             return;
 
-        writer.sendOSC (deviceAddress + TAG_EXISTS, channel.doesExist (), dump);
-        writer.sendOSC (deviceAddress + "activated", channel.isActivated (), dump);
-        writer.sendOSC (deviceAddress + TAG_SELECTED, channel.isSelected (), dump);
-        writer.sendOSC (deviceAddress + TAG_NAME, channel.getName (), dump);
-        writer.sendOSC (deviceAddress + "volumeStr", channel.getVolumeStr (), dump);
-        writer.sendOSC (deviceAddress + TAG_VOLUME, channel.getVolume (), dump);
-        writer.sendOSC (deviceAddress + "panStr", channel.getPanStr (), dump);
-        writer.sendOSC (deviceAddress + "pan", channel.getPan (), dump);
-        writer.sendOSC (deviceAddress + "mute", channel.isMute (), dump);
-        writer.sendOSC (deviceAddress + "solo", channel.isSolo (), dump);
+        writer.sendOSC (deviceAddress.get (TAG_EXISTS), channel.doesExist (), dump);
+        writer.sendOSC (deviceAddress.get ("activated"), channel.isActivated (), dump);
+        writer.sendOSC (deviceAddress.get (TAG_SELECTED), channel.isSelected (), dump);
+        writer.sendOSC (deviceAddress.get (TAG_NAME), channel.getName (), dump);
+        writer.sendOSC (deviceAddress.get ("volumeStr"), channel.getVolumeStr (), dump);
+        writer.sendOSC (deviceAddress.get (TAG_VOLUME), channel.getVolume (), dump);
+        writer.sendOSC (deviceAddress.get ("panStr"), channel.getPanStr (), dump);
+        writer.sendOSC (deviceAddress.get ("pan"), channel.getPan (), dump);
+        writer.sendOSC (deviceAddress.get ("mute"), channel.isMute (), dump);
+        writer.sendOSC (deviceAddress.get ("solo"), channel.isSolo (), dump);
 
         final ISendBank sendBank = channel.getSendBank ();
         for (int i = 0; i < sendBank.getPageSize (); i++)
-            this.flushParameterData (writer, deviceAddress + "send/" + (i + 1) + "/", sendBank.getItem (i), dump);
+            this.flushParameterData (writer, deviceAddress.get ("send").get (i + 1), sendBank.getItem (i), dump);
 
         if (this.configuration.isEnableVUMeters ())
-            writer.sendOSC (deviceAddress + "vu", channel.getVu (), dump);
+            writer.sendOSC (deviceAddress.get ("vu"), channel.getVu (), dump);
 
         final ColorEx color = channel.getColor ();
-        writer.sendOSCColor (deviceAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+        writer.sendOSCColor (deviceAddress.get (TAG_COLOR), color.getRed (), color.getGreen (), color.getBlue (), dump);
     }
 
 
-    private void parseCursorDeviceValue (final ICursorDevice cursorDevice, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parseCursorDeviceValue (final ICursorDevice cursorDevice, final OSCPath path, final IOpenSoundControlMessage message) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final String command = getSubCommand (path);
         switch (command)
@@ -234,7 +247,7 @@ public class DeviceModule extends AbstractModule
                 {
                     case TAG_SELECT:
                     case TAG_SELECTED:
-                        if (isTrigger (value) && cursorDevice != null)
+                        if (isTrigger (message) && cursorDevice != null)
                             cursorDevice.getDeviceBank ().getItem (siblingNo - 1).select ();
                         break;
 
@@ -261,31 +274,31 @@ public class DeviceModule extends AbstractModule
                 break;
 
             case "+":
-                if (isTrigger (value))
+                if (isTrigger (message))
                     cursorDevice.selectNext ();
                 break;
 
             case "-":
-                if (isTrigger (value))
+                if (isTrigger (message))
                     cursorDevice.selectPrevious ();
                 break;
 
             case "pinned":
-                if (value == null)
+                if (!hasValue (message))
                     cursorDevice.togglePinned ();
                 else
-                    cursorDevice.setPinned (isTrigger (value));
+                    cursorDevice.setPinned (isTrigger (message));
                 break;
 
             default:
-                path.add (0, command);
-                this.parseDeviceValue (cursorDevice, path, value);
+                path.restoreFirst ();
+                this.parseDeviceValue (cursorDevice, path, message);
                 break;
         }
     }
 
 
-    private void parseDeviceValue (final ISpecificDevice device, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parseDeviceValue (final ISpecificDevice device, final OSCPath path, final IOpenSoundControlMessage message) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final String command = getSubCommand (path);
         switch (command)
@@ -296,7 +309,7 @@ public class DeviceModule extends AbstractModule
                 {
                     case TAG_SELECT:
                     case TAG_SELECTED:
-                        device.getParameterPageBank ().selectPage (toInteger (value) - 1);
+                        device.getParameterPageBank ().selectPage (toInteger (message) - 1);
                         break;
 
                     default:
@@ -339,60 +352,59 @@ public class DeviceModule extends AbstractModule
                 {
                     final IParameterBank parameterBank = device.getParameterBank ();
                     for (int i = 0; i < parameterBank.getPageSize (); i++)
-                        parameterBank.getItem (i).setIndication (isTrigger (value));
+                        parameterBank.getItem (i).setIndication (isTrigger (message));
                 }
                 else
                     throw new UnknownCommandException (subCommand4);
                 break;
 
             case TAG_PARAM:
-                final String subCommand5 = getSubCommand (path);
-                try
+                if (path.isFirstNumber ())
                 {
-                    final int paramNo = Integer.parseInt (subCommand5) - 1;
-                    parseFXParamValue (device, paramNo, path, value);
+                    final int paramNo = path.removeFirstNumber () - 1;
+                    parseFXParamValue (device, paramNo, path, message);
+                    break;
                 }
-                catch (final NumberFormatException ex)
+
+                final String subCommand5 = getSubCommand (path);
+                if (isTrigger (message))
                 {
-                    if (isTrigger (value))
+                    switch (subCommand5)
                     {
-                        switch (subCommand5)
-                        {
-                            case "+":
-                                device.getParameterBank ().selectNextPage ();
-                                break;
-                            case "-":
-                                device.getParameterBank ().selectPreviousPage ();
-                                break;
-
-                            case "bank":
-                                final String subCommand6 = getSubCommand (path);
-                                if (TAG_PAGE.equals (subCommand6))
-                                {
-                                    final String subCommand7 = getSubCommand (path);
-                                    if ("+".equals (subCommand7))
-                                        device.getParameterPageBank ().scrollForwards ();
-                                    else // "-"
-                                        device.getParameterPageBank ().scrollBackwards ();
-                                }
-                                else
-                                    throw new UnknownCommandException (subCommand6);
-                                break;
-
-                            default:
-                                throw new UnknownCommandException (subCommand5);
-                        }
+                        case "+":
+                            device.getParameterBank ().selectNextPage ();
+                            break;
+                        case "-":
+                            device.getParameterBank ().selectPreviousPage ();
+                            break;
+
+                        case "bank":
+                            final String subCommand6 = getSubCommand (path);
+                            if (TAG_PAGE.equals (subCommand6))
+                            {
+                                final String subCommand7 = getSubCommand (path);
+                                if ("+".equals (subCommand7))
+                                    device.getParameterPageBank ().scrollForwards ();
+                                else // "-"
+                                    device.getParameterPageBank ().scrollBackwards ();
+                            }
+                            else
+                                throw new UnknownCommandException (subCommand6);
+                            break;
+
+                        default:
+                            throw new UnknownCommandException (subCommand5);
                     }
                 }
                 break;
 
             case "drumpad":
                 if (device.hasDrumPads ())
-                    this.parseLayerOrDrumpad (device, path, value);
+                    this.parseLayerOrDrumpad (device, path, message);
                 break;
 
             case "layer":
-                this.parseLayerOrDrumpad (device, path, value);
+                this.parseLayerOrDrumpad (device, path, message);
                 break;
 
             default:
@@ -402,7 +414,7 @@ public class DeviceModule extends AbstractModule
     }
 
 
-    private boolean parseEqValue (final IEqualizerDevice equalizerDevice, final LinkedList<String> path, final Object value) throws MissingCommandException, UnknownCommandException, IllegalParameterException
+    private boolean parseEqValue (final IEqualizerDevice equalizerDevice, final OSCPath path, final IOpenSoundControlMessage message) throws MissingCommandException, UnknownCommandException, IllegalParameterException
     {
         final String command = getSubCommand (path);
         switch (command)
@@ -412,7 +424,7 @@ public class DeviceModule extends AbstractModule
                 try
                 {
                     final int bandNo = Integer.parseInt (subCommand1) - 1;
-                    equalizerDevice.setType (bandNo, toString (value));
+                    equalizerDevice.setType (bandNo, toString (message));
                 }
                 catch (final NumberFormatException ex)
                 {
@@ -425,7 +437,7 @@ public class DeviceModule extends AbstractModule
                 try
                 {
                     final int bandNo = Integer.parseInt (subCommand2) - 1;
-                    equalizerDevice.getGain (bandNo).setValue (toInteger (value));
+                    equalizerDevice.getGain (bandNo).setValue (toInteger (message));
                 }
                 catch (final NumberFormatException ex)
                 {
@@ -438,7 +450,7 @@ public class DeviceModule extends AbstractModule
                 try
                 {
                     final int bandNo = Integer.parseInt (subCommand3) - 1;
-                    equalizerDevice.getFrequency (bandNo).setValue (toInteger (value));
+                    equalizerDevice.getFrequency (bandNo).setValue (toInteger (message));
                 }
                 catch (final NumberFormatException ex)
                 {
@@ -451,7 +463,7 @@ public class DeviceModule extends AbstractModule
                 try
                 {
                     final int bandNo = Integer.parseInt (subCommand4) - 1;
-                    equalizerDevice.getQ (bandNo).setValue (toInteger (value));
+                    equalizerDevice.getQ (bandNo).setValue (toInteger (message));
                 }
                 catch (final NumberFormatException ex)
                 {
@@ -461,76 +473,74 @@ public class DeviceModule extends AbstractModule
 
             case "add":
                 final ITrack cursorTrack = this.model.getCursorTrack ();
-                if (cursorTrack.doesExist () && isTrigger (value))
+                if (cursorTrack.doesExist () && isTrigger (message))
                     cursorTrack.addEqualizerDevice ();
                 return true;
 
             default:
                 // Let this be handled by the normal device parser
-                path.add (0, command);
+                path.restoreFirst ();
                 return false;
         }
     }
 
 
-    private void parseLayerOrDrumpad (final ISpecificDevice device, final LinkedList<String> path, final Object value) throws MissingCommandException, UnknownCommandException, IllegalParameterException
+    private void parseLayerOrDrumpad (final ISpecificDevice device, final OSCPath path, final IOpenSoundControlMessage message) throws MissingCommandException, UnknownCommandException, IllegalParameterException
     {
+        if (path.isFirstNumber ())
+        {
+            final int layerNo = path.removeFirstNumber () - 1;
+            this.parseDeviceLayerValue (device, layerNo, path, message);
+            return;
+        }
+
         final String command = getSubCommand (path);
-        try
+        if (TAG_SELECTED.equals (command) || TAG_SELECT.equals (command))
         {
-            final int layerNo;
-            if (TAG_SELECTED.equals (command) || TAG_SELECT.equals (command))
-            {
-                final IChannel selectedLayerOrDrumPad = device.getLayerOrDrumPadBank ().getSelectedItem ();
-                layerNo = selectedLayerOrDrumPad == null ? -1 : selectedLayerOrDrumPad.getIndex ();
-            }
-            else
-            {
-                layerNo = Integer.parseInt (command) - 1;
-            }
-            this.parseDeviceLayerValue (device, layerNo, path, value);
+            final IChannel selectedLayerOrDrumPad = device.getLayerOrDrumPadBank ().getSelectedItem ();
+            final int layerNo = selectedLayerOrDrumPad == null ? -1 : selectedLayerOrDrumPad.getIndex ();
+            this.parseDeviceLayerValue (device, layerNo, path, message);
+            return;
         }
-        catch (final NumberFormatException ex)
+
+        switch (command)
         {
-            switch (command)
-            {
-                case "parent":
-                    if (device.doesExist () && device instanceof ICursorDevice)
-                    {
-                        final ICursorDevice cursorDevice = (ICursorDevice) device;
-                        cursorDevice.selectParent ();
-                        cursorDevice.selectChannel ();
-                    }
-                    break;
+            case "parent":
+                if (device.doesExist () && device instanceof ICursorDevice)
+                {
+                    final ICursorDevice cursorDevice = (ICursorDevice) device;
+                    cursorDevice.selectParent ();
+                    cursorDevice.selectChannel ();
+                }
+                break;
 
-                case "+":
-                    device.getLayerOrDrumPadBank ().selectNextItem ();
-                    break;
+            case "+":
+                device.getLayerOrDrumPadBank ().selectNextItem ();
+                break;
 
-                case "-":
-                    device.getLayerOrDrumPadBank ().selectPreviousItem ();
-                    break;
+            case "-":
+                device.getLayerOrDrumPadBank ().selectPreviousItem ();
+                break;
 
-                case TAG_PAGE:
-                    if (path.isEmpty ())
-                    {
-                        this.host.println ("Missing Layer/Drumpad Page subcommand: " + command);
-                        return;
-                    }
-                    if ("+".equals (path.get (0)))
-                        device.getLayerOrDrumPadBank ().selectNextPage ();
-                    else
-                        device.getLayerOrDrumPadBank ().selectPreviousPage ();
-                    break;
+            case TAG_PAGE:
+                if (path.isEmpty ())
+                {
+                    this.host.println ("Missing Layer/Drumpad Page subcommand: " + command);
+                    return;
+                }
+                if ("+".equals (path.getFirst ()))
+                    device.getLayerOrDrumPadBank ().selectNextPage ();
+                else
+                    device.getLayerOrDrumPadBank ().selectPreviousPage ();
+                break;
 
-                default:
-                    throw new UnknownCommandException (command);
-            }
+            default:
+                throw new UnknownCommandException (command);
         }
     }
 
 
-    private void parseDeviceLayerValue (final ISpecificDevice cursorDevice, final int layerIndex, final LinkedList<String> path, final Object value) throws UnknownCommandException, IllegalParameterException, MissingCommandException
+    private void parseDeviceLayerValue (final ISpecificDevice cursorDevice, final int layerIndex, final OSCPath path, final IOpenSoundControlMessage message) throws UnknownCommandException, IllegalParameterException, MissingCommandException
     {
         final String command = getSubCommand (path);
         final IChannelBank<?> layerOrDrumPadBank = cursorDevice.getLayerOrDrumPadBank ();
@@ -549,55 +559,55 @@ public class DeviceModule extends AbstractModule
                 break;
 
             case TAG_NAME:
-                if (value != null)
-                    layer.setName (value.toString ());
+                if (hasValue (message))
+                    layer.setName (message.getString (0));
                 break;
 
             case TAG_VOLUME:
                 if (path.isEmpty ())
-                    layer.setVolume (toInteger (value));
-                else if (TAG_INDICATE.equals (path.get (0)))
-                    layer.setVolumeIndication (isTrigger (value));
-                else if (TAG_TOUCHED.equals (path.get (0)))
-                    layer.touchVolume (isTrigger (value));
+                    layer.setVolume (toInteger (message));
+                else if (TAG_INDICATE.equals (path.getFirst ()))
+                    layer.setVolumeIndication (isTrigger (message));
+                else if (TAG_TOUCHED.equals (path.getFirst ()))
+                    layer.touchVolume (isTrigger (message));
                 break;
 
             case "pan":
                 if (path.isEmpty ())
-                    layer.setPan (toInteger (value));
-                else if (TAG_INDICATE.equals (path.get (0)))
-                    layer.setPanIndication (isTrigger (value));
-                else if (TAG_TOUCHED.equals (path.get (0)))
-                    layer.touchPan (isTrigger (value));
+                    layer.setPan (toInteger (message));
+                else if (TAG_INDICATE.equals (path.getFirst ()))
+                    layer.setPanIndication (isTrigger (message));
+                else if (TAG_TOUCHED.equals (path.getFirst ()))
+                    layer.touchPan (isTrigger (message));
                 break;
 
             case "mute":
-                if (value == null)
+                if (!hasValue (message))
                     layer.toggleMute ();
                 else
-                    layer.setMute (isTrigger (value));
+                    layer.setMute (isTrigger (message));
                 break;
 
             case "solo":
-                if (value == null)
+                if (!hasValue (message))
                     layer.toggleSolo ();
                 else
-                    layer.setSolo (isTrigger (value));
+                    layer.setSolo (isTrigger (message));
                 break;
 
             case "send":
-                final int sendNo = Integer.parseInt (path.removeFirst ()) - 1;
+                final int sendNo = path.removeFirstNumber () - 1;
                 if (path.isEmpty ())
                     return;
                 if (!TAG_VOLUME.equals (path.removeFirst ()))
                     return;
                 final ISend send = layer.getSendBank ().getItem (sendNo);
                 if (path.isEmpty ())
-                    send.setValue (toInteger (value));
-                else if (TAG_INDICATE.equals (path.get (0)))
-                    send.setIndication (isTrigger (value));
-                else if (TAG_TOUCHED.equals (path.get (0)))
-                    send.touchValue (isTrigger (value));
+                    send.setValue (toInteger (message));
+                else if (TAG_INDICATE.equals (path.getFirst ()))
+                    send.setIndication (isTrigger (message));
+                else if (TAG_TOUCHED.equals (path.getFirst ()))
+                    send.touchValue (isTrigger (message));
                 break;
 
             case "enter":
@@ -610,18 +620,18 @@ public class DeviceModule extends AbstractModule
     }
 
 
-    private static void parseFXParamValue (final ISpecificDevice cursorDevice, final int fxparamIndex, final LinkedList<String> path, final Object value) throws MissingCommandException, IllegalParameterException, UnknownCommandException
+    private static void parseFXParamValue (final ISpecificDevice cursorDevice, final int fxparamIndex, final OSCPath path, final IOpenSoundControlMessage message) throws MissingCommandException, IllegalParameterException, UnknownCommandException
     {
         final String command = getSubCommand (path);
         final IParameter param = cursorDevice.getParameterBank ().getItem (fxparamIndex);
         switch (command)
         {
             case "value":
-                param.setValue (toInteger (value));
+                param.setValue (toInteger (message));
                 break;
 
             case TAG_INDICATE:
-                param.setIndication (isTrigger (value));
+                param.setIndication (isTrigger (message));
                 break;
 
             case "reset":
@@ -629,7 +639,7 @@ public class DeviceModule extends AbstractModule
                 break;
 
             case TAG_TOUCHED:
-                param.touchValue (isTrigger (value));
+                param.touchValue (isTrigger (message));
                 break;
 
             default:
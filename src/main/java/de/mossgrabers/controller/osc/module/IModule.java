@@ -7,8 +7,8 @@ package de.mossgrabers.controller.osc.module;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
-
-import java.util.LinkedList;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 
 
 /**
@@ -31,12 +31,12 @@ public interface IModule
      *
      * @param command The first part of the command
      * @param path The rest of the path commands
-     * @param value A value parameter for the command, may be null
+     * @param message The received message, which contains the value parameters of the command
      * @throws IllegalParameterException Wrong or missing value parameter
      * @throws UnknownCommandException Unknown command
      * @throws MissingCommandException Missing sub-command
      */
-    void execute (String command, LinkedList<String> path, Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException;
+    void execute (String command, OSCPath path, IOpenSoundControlMessage message) throws IllegalParameterException, UnknownCommandException, MissingCommandException;
 
 
     /**
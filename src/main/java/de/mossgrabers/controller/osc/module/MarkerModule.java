@@ -7,14 +7,15 @@ package de.mossgrabers.controller.osc.module;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IMarker;
 import de.mossgrabers.framework.daw.data.bank.IMarkerBank;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
-
-import java.util.LinkedList;
+import de.mossgrabers.framework.osc.OpenSoundControlAddress;
 
 
 /**
@@ -24,6 +25,9 @@ import java.util.LinkedList;
  */
 public class MarkerModule extends AbstractModule
 {
+    private final OpenSoundControlAddress markerBankAddress;
+
+
     /**
      * Constructor.
      *
@@ -34,6 +38,8 @@ public class MarkerModule extends AbstractModule
     public MarkerModule (final IHost host, final IModel model, final IOpenSoundControlWriter writer)
     {
         super (host, model, writer);
+
+        this.markerBankAddress = writer.getAddress ("/marker");
     }
 
 
@@ -50,42 +56,41 @@ public class MarkerModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final IOpenSoundControlMessage message) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if (!"marker".equals (command))
             throw new UnknownCommandException (command);
 
-        final String subCommand = getSubCommand (path);
-        try
+        if (path.isFirstNumber ())
         {
-            final int markerNo = Integer.parseInt (subCommand) - 1;
+            final int markerNo = path.removeFirstNumber () - 1;
             final String subCommand2 = getSubCommand (path);
             if ("launch".equals (subCommand2))
                 this.model.getMarkerBank ().getItem (markerNo).launch (true);
             else
                 throw new UnknownCommandException (subCommand2);
+            return;
         }
-        catch (final NumberFormatException ex)
+
+        final String subCommand = getSubCommand (path);
+        final IMarkerBank markerBank = this.model.getMarkerBank ();
+        if ("bank".equals (subCommand))
         {
-            final IMarkerBank markerBank = this.model.getMarkerBank ();
-            if ("bank".equals (subCommand))
+            final String subCommand2 = getSubCommand (path);
+            switch (subCommand2)
             {
-                final String subCommand2 = getSubCommand (path);
-                switch (subCommand2)
-                {
-                    case "+":
-                        markerBank.selectNextPage ();
-                        break;
-                    case "-":
-                        markerBank.selectPreviousPage ();
-                        break;
-                    default:
-                        throw new UnknownCommandException (subCommand2);
-                }
+                case "+":
+                    markerBank.selectNextPage ();
+                    break;
+                case "-":
+                    markerBank.selectPreviousPage ();
+                    break;
+                default:
+                    throw new UnknownCommandException (subCommand2);
             }
-            else
-                throw new UnknownCommandException (subCommand);
         }
+        else
+            throw new UnknownCommandException (subCommand);
     }
 
 
@@ -93,15 +98,18 @@ public class MarkerModule extends AbstractModule
     @Override
     public void flush (final boolean dump)
     {
+        if (!this.writer.isSubscribed (this.markerBankAddress))
+            return;
+
         final IMarkerBank markerBank = this.model.getMarkerBank ();
         for (int i = 0; i < markerBank.getPageSize (); i++)
         {
-            final String markerAddress = "/marker/" + (i + 1) + "/";
+            final OpenSoundControlAddress markerAddress = this.markerBankAddress.get (i + 1);
             final IMarker marker = markerBank.getItem (i);
-            this.writer.sendOSC (markerAddress + "exists", marker.doesExist (), dump);
-            this.writer.sendOSC (markerAddress + TAG_NAME, marker.getName (), dump);
+            this.writer.sendOSC (markerAddress.get (TAG_EXISTS), marker.doesExist (), dump);
+            this.writer.sendOSC (markerAddress.get (TAG_NAME), marker.getName (), dump);
             final ColorEx color = marker.getColor ();
-            this.writer.sendOSCColor (markerAddress + "color", color.getRed (), color.getGreen (), color.getBlue (), dump);
+            this.writer.sendOSCColor (markerAddress.get (TAG_COLOR), color.getRed (), color.getGreen (), color.getBlue (), dump);
         }
     }
 }
\ No newline at end of file
@@ -8,6 +8,7 @@ import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.color.ColorManager;
@@ -19,12 +20,12 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.INoteInput;
 import de.mossgrabers.framework.daw.midi.INoteRepeat;
 import de.mossgrabers.framework.featuregroup.AbstractView;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlAddress;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.KeyManager;
 
-import java.util.LinkedList;
-
 
 /**
  * All MIDI related commands.
@@ -35,6 +36,8 @@ public class MidiModule extends AbstractModule
 {
     private final KeyManager                        keyManager;
     private final IControlSurface<OSCConfiguration> surface;
+    private final OpenSoundControlAddress           noteAddress;
+    private final OpenSoundControlAddress           noteRepeatAddress;
 
 
     /**
@@ -53,6 +56,10 @@ public class MidiModule extends AbstractModule
         this.surface = surface;
         this.keyManager = keyManager;
 
+        final OpenSoundControlAddress midiAddress = writer.getAddress ("/vkb_midi");
+        this.noteAddress = midiAddress.get ("note");
+        this.noteRepeatAddress = midiAddress.get ("noterepeat");
+
         this.updateNoteMatrix (model.getScales ());
     }
 
@@ -70,10 +77,10 @@ public class MidiModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final IOpenSoundControlMessage message) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if ("vkb_midi".equals (command))
-            this.parseMidi (path, value);
+            this.parseMidi (path, message);
         else
             throw new UnknownCommandException (command);
     }
@@ -83,23 +90,24 @@ public class MidiModule extends AbstractModule
     @Override
     public void flush (final boolean dump)
     {
-        final String noteAddress = "/vkb_midi/note/";
-        for (int i = 0; i < 127; i++)
+        if (this.writer.isSubscribed (this.noteAddress))
         {
-            final double [] color = this.getNoteColor (i).toDoubleRGB ();
-            this.writer.sendOSCColor (noteAddress + i + "/color", color[0], color[1], color[2], dump);
+            for (int i = 0; i < 127; i++)
+            {
+                final double [] color = this.getNoteColor (i).toDoubleRGB ();
+                this.writer.sendOSCColor (this.noteAddress.get (i).get (TAG_COLOR), color[0], color[1], color[2], dump);
+            }
         }
 
         // Flush note repeat
         final INoteInput noteInput = this.surface.getMidiInput ().getDefaultNoteInput ();
-        if (noteInput == null)
+        if (noteInput == null || !this.writer.isSubscribed (this.noteRepeatAddress))
             return;
         final INoteRepeat noteRepeat = noteInput.getNoteRepeat ();
-        final String noteRepeatAddress = "/vkb_midi/noterepeat/";
 
-        this.writer.sendOSC (noteRepeatAddress + "isActive", noteRepeat.isActive (), dump);
-        this.writer.sendOSC (noteRepeatAddress + "period", Resolution.getNameAt (Resolution.getMatch (noteRepeat.getPeriod ())), dump);
-        this.writer.sendOSC (noteRepeatAddress + "length", Resolution.getNameAt (Resolution.getMatch (noteRepeat.getNoteLength ())), dump);
+        this.writer.sendOSC (this.noteRepeatAddress.get ("isActive"), noteRepeat.isActive (), dump);
+        this.writer.sendOSC (this.noteRepeatAddress.get ("period"), Resolution.getNameAt (Resolution.getMatch (noteRepeat.getPeriod ())), dump);
+        this.writer.sendOSC (this.noteRepeatAddress.get ("length"), Resolution.getNameAt (Resolution.getMatch (noteRepeat.getNoteLength ())), dump);
     }
 
 
@@ -107,12 +115,12 @@ public class MidiModule extends AbstractModule
      * Parse virtual MIDI note commands.
      *
      * @param path The rest of the path
-     * @param value The value
+     * @param message The message with the value parameters
      * @throws MissingCommandException Could not find the sub-command
      * @throws UnknownCommandException Unknown sub-command
      * @throws IllegalParameterException Added an illegal parameter
      */
-    private void parseMidi (final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    private void parseMidi (final OSCPath path, final IOpenSoundControlMessage message) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         final OSCConfiguration conf = this.surface.getConfiguration ();
 
@@ -121,14 +129,14 @@ public class MidiModule extends AbstractModule
         switch (command)
         {
             case "velocity":
-                final int numValue = toInteger (value);
+                final int numValue = toInteger (message);
                 conf.setAccentEnabled (numValue > 0);
                 if (numValue > 0)
                     conf.setFixedAccentValue (numValue);
                 return;
 
             case "noterepeat":
-                this.parseNoteRepeat (path, value);
+                this.parseNoteRepeat (path, message);
                 return;
 
             default:
@@ -154,10 +162,9 @@ public class MidiModule extends AbstractModule
             case "note":
                 if (path.isEmpty ())
                 {
-                    final Object [] array = (Object []) value;
-                    final int note = ((Number) array[0]).intValue ();
-                    final int velocity = ((Number) array[1]).intValue ();
-                    this.sendNote (conf, midiChannel, input, note, velocity);
+                    if (message.size () < 2)
+                        throw new IllegalParameterException ("Note and velocity are required.");
+                    this.sendNote (conf, midiChannel, input, message.getInt (0), message.getInt (1));
                     return;
                 }
 
@@ -165,7 +172,7 @@ public class MidiModule extends AbstractModule
                 switch (n)
                 {
                     case "+":
-                        if (isTrigger (value))
+                        if (isTrigger (message))
                         {
                             scales.incOctave ();
                             this.updateNoteMatrix (scales);
@@ -173,7 +180,7 @@ public class MidiModule extends AbstractModule
                         break;
 
                     case "-":
-                        if (isTrigger (value))
+                        if (isTrigger (message))
                         {
                             scales.decOctave ();
                             this.updateNoteMatrix (scales);
@@ -181,7 +188,7 @@ public class MidiModule extends AbstractModule
                         break;
 
                     default:
-                        this.sendNote (conf, midiChannel, input, Integer.parseInt (n), toInteger (value));
+                        this.sendNote (conf, midiChannel, input, Integer.parseInt (n), toInteger (message));
                         break;
                 }
                 break;
@@ -191,7 +198,7 @@ public class MidiModule extends AbstractModule
                 switch (n2)
                 {
                     case "+":
-                        if (isTrigger (value))
+                        if (isTrigger (message))
                         {
                             scales.incDrumOctave ();
                             this.surface.getDisplay ().notify (scales.getDrumRangeText ());
@@ -199,7 +206,7 @@ public class MidiModule extends AbstractModule
                         break;
 
                     case "-":
-                        if (isTrigger (value))
+                        if (isTrigger (message))
                         {
                             scales.decDrumOctave ();
                             this.surface.getDisplay ().notify (scales.getDrumRangeText ());
@@ -208,7 +215,7 @@ public class MidiModule extends AbstractModule
 
                     default:
                         final int note = Integer.parseInt (n2);
-                        int numValue = toInteger (value);
+                        int numValue = toInteger (message);
                         if (numValue > 0)
                             numValue = conf.isAccentActive () ? conf.getFixedAccentValue () : numValue;
                         final int data0 = this.model.getScales ().getDrumMatrix ()[note];
@@ -224,12 +231,12 @@ public class MidiModule extends AbstractModule
                     this.host.println ("Missing Midi CC value.");
                     return;
                 }
-                final int cc = Integer.parseInt (path.removeFirst ());
-                input.sendRawMidiEvent (0xB0 + midiChannel, cc, toInteger (value));
+                final int cc = path.removeFirstNumber ();
+                input.sendRawMidiEvent (0xB0 + midiChannel, cc, toInteger (message));
                 break;
 
             case "aftertouch":
-                int numValue = toInteger (value);
+                int numValue = toInteger (message);
                 if (numValue > 0)
                     numValue = conf.isAccentActive () ? conf.getFixedAccentValue () : numValue;
                 if (path.isEmpty ())
@@ -237,12 +244,12 @@ public class MidiModule extends AbstractModule
                     input.sendRawMidiEvent (0xD0 + midiChannel, 0, numValue);
                     return;
                 }
-                final int note = Integer.parseInt (path.removeFirst ());
+                final int note = path.removeFirstNumber ();
                 input.sendRawMidiEvent (0xA0 + midiChannel, this.surface.getKeyTranslationTable ()[note], numValue);
                 break;
 
             case "pitchbend":
-                input.sendRawMidiEvent (0xE0 + midiChannel, 0, toInteger (value));
+                input.sendRawMidiEvent (0xE0 + midiChannel, 0, toInteger (message));
                 break;
 
             default:
@@ -290,12 +297,12 @@ public class MidiModule extends AbstractModule
      * Parse note repeat parameters.
      *
      * @param path The rest of the path
-     * @param value The value
+     * @param message The message with the value parameters
      * @throws MissingCommandException Could not find the sub-command
      * @throws UnknownCommandException Unknown sub-command
      * @throws IllegalParameterException Added an illegal parameter
      */
-    private void parseNoteRepeat (final LinkedList<String> path, final Object value) throws MissingCommandException, UnknownCommandException, IllegalParameterException
+    private void parseNoteRepeat (final OSCPath path, final IOpenSoundControlMessage message) throws MissingCommandException, UnknownCommandException, IllegalParameterException
     {
         final INoteInput noteInput = this.surface.getMidiInput ().getDefaultNoteInput ();
         if (noteInput == null)
@@ -307,22 +314,22 @@ public class MidiModule extends AbstractModule
         {
 
             case "isActive":
-                noteRepeat.setActive (toInteger (value) > 0);
+                noteRepeat.setActive (toInteger (message) > 0);
                 break;
 
             case "period":
-                if (value == null)
+                if (!hasValue (message))
                     throw new IllegalParameterException ("Value must not be empty.");
-                final Resolution period = Resolution.getByName (value.toString ());
+                final Resolution period = Resolution.getByName (message.getString (0));
                 if (period == null)
                     throw new IllegalParameterException ("Value must be one of {1/4, 1/4t, 1/8, 1/8t, 1/16, 1/16t, 1/32, 1/32t}.");
                 noteRepeat.setPeriod (period.getValue ());
                 break;
 
             case "length":
-                if (value == null)
+                if (!hasValue (message))
                     throw new IllegalParameterException ("Value must not be empty.");
-                final Resolution length = Resolution.getByName (value.toString ());
+                final Resolution length = Resolution.getByName (message.getString (0));
                 if (length == null)
                     throw new IllegalParameterException ("Value must be one of {1/4, 1/4t, 1/8, 1/8t, 1/16, 1/16t, 1/32, 1/32t}.");
                 noteRepeat.setNoteLength (length.getValue ());
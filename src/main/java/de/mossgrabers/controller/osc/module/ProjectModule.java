@@ -7,13 +7,13 @@ package de.mossgrabers.controller.osc.module;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.IProject;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 
-import java.util.LinkedList;
-
 
 /**
  * All project related commands.
@@ -48,7 +48,7 @@ public class ProjectModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final IOpenSoundControlMessage message) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if (!"project".equals (command))
             throw new UnknownCommandException (command);
@@ -66,10 +66,10 @@ public class ProjectModule extends AbstractModule
                 break;
 
             case "engine":
-                if (value == null)
+                if (!hasValue (message))
                     this.model.getApplication ().toggleEngineActive ();
                 else
-                    this.model.getApplication ().setEngineActive (isTrigger (value));
+                    this.model.getApplication ().setEngineActive (isTrigger (message));
                 break;
 
             case "save":
@@ -7,13 +7,14 @@ package de.mossgrabers.controller.osc.module;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IScene;
 import de.mossgrabers.framework.daw.data.bank.ISceneBank;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
-
-import java.util.LinkedList;
+import de.mossgrabers.framework.osc.OpenSoundControlAddress;
 
 
 /**
@@ -23,6 +24,9 @@ import java.util.LinkedList;
  */
 public class SceneModule extends AbstractModule
 {
+    private final OpenSoundControlAddress sceneBankAddress;
+
+
     /**
      * Constructor.
      *
@@ -33,6 +37,8 @@ public class SceneModule extends AbstractModule
     public SceneModule (final IHost host, final IModel model, final IOpenSoundControlWriter writer)
     {
         super (host, model, writer);
+
+        this.sceneBankAddress = writer.getAddress ("/scene");
     }
 
 
@@ -49,7 +55,7 @@ public class SceneModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final IOpenSoundControlMessage message) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if (!"scene".equals (command))
             throw new UnknownCommandException (command);
@@ -63,11 +69,11 @@ public class SceneModule extends AbstractModule
                 switch (subCommand2)
                 {
                     case "+":
-                        if (isTrigger (value))
+                        if (isTrigger (message))
                             sceneBank.selectNextPage ();
                         break;
                     case "-":
-                        if (isTrigger (value))
+                        if (isTrigger (message))
                             sceneBank.selectPreviousPage ();
                         break;
                     default:
@@ -76,17 +82,17 @@ public class SceneModule extends AbstractModule
                 break;
 
             case "+":
-                if (isTrigger (value))
+                if (isTrigger (message))
                     sceneBank.scrollForwards ();
                 break;
 
             case "-":
-                if (isTrigger (value))
+                if (isTrigger (message))
                     sceneBank.scrollBackwards ();
                 break;
 
             case "create":
-                if (isTrigger (value))
+                if (isTrigger (message))
                     this.model.getProject ().createSceneFromPlayingLauncherClips ();
                 break;
 
@@ -105,14 +111,17 @@ public class SceneModule extends AbstractModule
     @Override
     public void flush (final boolean dump)
     {
+        if (!this.writer.isSubscribed (this.sceneBankAddress))
+            return;
+
         final ISceneBank sceneBank = this.model.getSceneBank ();
         for (int i = 0; i < sceneBank.getPageSize (); i++)
         {
             final IScene scene = sceneBank.getItem (i);
-            final String sceneAddress = "/scene/" + (i + 1) + "/";
-            this.writer.sendOSC (sceneAddress + TAG_EXISTS, scene.doesExist (), dump);
-            this.writer.sendOSC (sceneAddress + TAG_NAME, scene.getName (), dump);
-            this.writer.sendOSC (sceneAddress + TAG_SELECTED, scene.isSelected (), dump);
+            final OpenSoundControlAddress sceneAddress = this.sceneBankAddress.get (i + 1);
+            this.writer.sendOSC (sceneAddress.get (TAG_EXISTS), scene.doesExist (), dump);
+            this.writer.sendOSC (sceneAddress.get (TAG_NAME), scene.getName (), dump);
+            this.writer.sendOSC (sceneAddress.get (TAG_SELECTED), scene.isSelected (), dump);
         }
     }
 }
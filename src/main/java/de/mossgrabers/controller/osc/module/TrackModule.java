@@ -8,11 +8,14 @@ import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCMeterChannel;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ICursorTrack;
+import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.data.ISend;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -20,9 +23,10 @@ import de.mossgrabers.framework.daw.data.bank.ISendBank;
 import de.mossgrabers.framework.daw.data.bank.ISlotBank;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlAddress;
 
-import java.util.LinkedList;
 import java.util.Locale;
 
 
@@ -33,7 +37,16 @@ import java.util.Locale;
  */
 public class TrackModule extends AbstractModule
 {
-    private final OSCConfiguration configuration;
+    private final OSCConfiguration        configuration;
+    private final OSCMeterChannel         meterChannel;
+    private final OpenSoundControlAddress trackRootAddress;
+    private final OpenSoundControlAddress masterAddress;
+    private final OpenSoundControlAddress bankVuAddress;
+
+    // The VU meters of the bank tracks followed by the master and the selected track
+    private final int []                  vuCurrent;
+    private final int []                  vuPeaks;
+    private final int []                  bankVu;
 
 
     /**
@@ -43,12 +56,25 @@ public class TrackModule extends AbstractModule
      * @param model The model
      * @param writer The writer
      * @param configuration The configuration
+     * @param meterChannel The channel to send the VU meters
      */
-    public TrackModule (final IHost host, final IModel model, final IOpenSoundControlWriter writer, final OSCConfiguration configuration)
+    public TrackModule (final IHost host, final IModel model, final IOpenSoundControlWriter writer, final OSCConfiguration configuration, final OSCMeterChannel meterChannel)
     {
         super (host, model, writer);
 
         this.configuration = configuration;
+        this.meterChannel = meterChannel;
+
+        this.trackRootAddress = writer.getAddress ("/track");
+        this.masterAddress = writer.getAddress ("/master");
+        this.bankVuAddress = this.trackRootAddress.get ("vu");
+
+        final int pageSize = model.getTrackBank ().getPageSize ();
+        this.vuCurrent = new int [pageSize + 2];
+        this.vuPeaks = new int [pageSize + 2];
+        this.bankVu = new int [pageSize];
+
+        meterChannel.addMeter ( () -> this.flushMeters (false));
     }
 
 
@@ -66,25 +92,22 @@ public class TrackModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final IOpenSoundControlMessage message) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         switch (command)
         {
             case "track":
-                final String subCommand = getSubCommand (path);
-                try
+                if (path.isFirstNumber ())
                 {
-                    final int trackNo = Integer.parseInt (subCommand) - 1;
-                    parseTrackValue (this.model.getCurrentTrackBank ().getItem (trackNo), path, value);
-                }
-                catch (final NumberFormatException ex)
-                {
-                    this.parseTrackCommands (subCommand, path, value);
+                    final int trackNo = path.removeFirstNumber () - 1;
+                    parseTrackValue (this.model.getCurrentTrackBank ().getItem (trackNo), path, message);
                 }
+                else
+                    this.parseTrackCommands (getSubCommand (path), path, message);
                 break;
 
             case "master":
-                parseTrackValue (this.model.getMasterTrack (), path, value);
+                parseTrackValue (this.model.getMasterTrack (), path, message);
                 break;
 
             default:
@@ -98,13 +121,77 @@ public class TrackModule extends AbstractModule
     public void flush (final boolean dump)
     {
         final ITrackBank trackBank = this.model.getCurrentTrackBank ();
-        for (int i = 0; i < trackBank.getPageSize (); i++)
-            this.flushTrack (this.writer, "/track/" + (i + 1) + "/", trackBank.getItem (i), dump);
-        this.flushTrack (this.writer, "/master/", this.model.getMasterTrack (), dump);
+        final int pageSize = this.bankVu.length;
+        for (int i = 0; i < pageSize; i++)
+        {
+            final ITrack track = trackBank.getItem (i);
+            this.flushTrack (this.writer, this.trackRootAddress.get (i + 1), track, dump);
+            this.sampleVu (i, track);
+        }
+        final IMasterTrack masterTrack = this.model.getMasterTrack ();
+        this.flushTrack (this.writer, this.masterAddress, masterTrack, dump);
+        this.sampleVu (pageSize, masterTrack);
         final ICursorTrack cursorTrack = this.model.getCursorTrack ();
-        this.flushTrack (this.writer, "/track/selected/", cursorTrack, dump);
-        this.writer.sendOSC ("/track/toggleBank", this.model.isEffectTrackBankActive () ? 1 : 0, dump);
-        this.writer.sendOSC ("/track/hasParent", trackBank.hasParent (), dump);
+        this.flushTrack (this.writer, this.trackRootAddress.get ("selected"), cursorTrack, dump);
+        this.sampleVu (pageSize + 1, cursorTrack);
+        this.writer.sendOSC (this.trackRootAddress.get ("toggleBank"), this.model.isEffectTrackBankActive () ? 1 : 0, dump);
+        this.writer.sendOSC (this.trackRootAddress.get ("hasParent"), trackBank.hasParent (), dump);
+
+        // The meter channel only sends changes, a dump needs to send everything now
+        if (dump)
+            this.flushMeters (true);
+    }
+
+
+    /**
+     * Sample the VU meter of a track and keep the peak value until the next send.
+     *
+     * @param index The index of the meter
+     * @param track The track
+     */
+    private void sampleVu (final int index, final ITrack track)
+    {
+        final int vu = this.configuration.isEnableVUMeters () ? track.getVu () : 0;
+        this.vuCurrent[index] = vu;
+        if (vu > this.vuPeaks[index])
+            this.vuPeaks[index] = vu;
+    }
+
+
+    /**
+     * Send the peak values of the VU meters since the last send. All VU meters of the bank are sent
+     * as one message to /track/vu. The tracks of the bank only send their own VU meter if the meter
+     * channel is not running. The master and the selected track always send their VU meter.
+     *
+     * @param dump Forces a flush if true otherwise only changed values are flushed
+     */
+    private void flushMeters (final boolean dump)
+    {
+        final int pageSize = this.bankVu.length;
+        if (!this.meterChannel.isRunning ())
+        {
+            for (int i = 0; i < pageSize; i++)
+                this.flushVu (this.trackRootAddress.get (i + 1), i, dump);
+        }
+        this.flushVu (this.masterAddress, pageSize, dump);
+        this.flushVu (this.trackRootAddress.get ("selected"), pageSize + 1, dump);
+
+        if (this.writer.isSubscribed (this.bankVuAddress))
+        {
+            System.arraycopy (this.vuPeaks, 0, this.bankVu, 0, pageSize);
+            this.writer.sendOSC (this.bankVuAddress, this.bankVu, dump);
+        }
+
+        // Start the next peak interval with the current values
+        System.arraycopy (this.vuCurrent, 0, this.vuPeaks, 0, this.vuPeaks.length);
+    }
+
+
+    private void flushVu (final OpenSoundControlAddress trackAddress, final int index, final boolean dump)
+    {
+        final OpenSoundControlAddress vuAddress = trackAddress.get ("vu");
+        if (this.writer.isSubscribed (vuAddress))
+            this.writer.sendOSC (vuAddress, this.vuPeaks[index], dump);
     }
 
 
@@ -116,76 +203,81 @@ public class TrackModule extends AbstractModule
      * @param track The track
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushTrack (final IOpenSoundControlWriter writer, final String trackAddress, final ITrack track, final boolean dump)
+    private void flushTrack (final IOpenSoundControlWriter writer, final OpenSoundControlAddress trackAddress, final ITrack track, final boolean dump)
     {
-        writer.sendOSC (trackAddress + TAG_EXISTS, track.doesExist (), dump);
+        if (!writer.isSubscribed (trackAddress))
+            return;
+
+        writer.sendOSC (trackAddress.get (TAG_EXISTS), track.doesExist (), dump);
         final ChannelType type = track.getType ();
-        writer.sendOSC (trackAddress + "type", type == null ? null : type.name ().toLowerCase (Locale.US), dump);
-        writer.sendOSC (trackAddress + "activated", track.isActivated (), dump);
-        writer.sendOSC (trackAddress + TAG_SELECTED, track.isSelected (), dump);
-        writer.sendOSC (trackAddress + "isGroup", track.isGroup (), dump);
-        writer.sendOSC (trackAddress + TAG_NAME, track.getName (), dump);
-        writer.sendOSC (trackAddress + "volumeStr", track.getVolumeStr (), dump);
-        writer.sendOSC (trackAddress + TAG_VOLUME, track.getVolume (), dump);
-        writer.sendOSC (trackAddress + "panStr", track.getPanStr (), dump);
-        writer.sendOSC (trackAddress + "pan", track.getPan (), dump);
-        writer.sendOSC (trackAddress + "mute", track.isMute (), dump);
-        writer.sendOSC (trackAddress + "solo", track.isSolo (), dump);
-        writer.sendOSC (trackAddress + "recarm", track.isRecArm (), dump);
-        writer.sendOSC (trackAddress + "monitor", track.isMonitor (), dump);
-        writer.sendOSC (trackAddress + "autoMonitor", track.isAutoMonitor (), dump);
-        writer.sendOSC (trackAddress + "canHoldNotes", track.canHoldNotes (), dump);
-        writer.sendOSC (trackAddress + "canHoldAudioData", track.canHoldAudioData (), dump);
-        writer.sendOSC (trackAddress + "position", track.getPosition (), dump);
+        writer.sendOSC (trackAddress.get ("type"), type == null ? null : type.name ().toLowerCase (Locale.US), dump);
+        writer.sendOSC (trackAddress.get ("activated"), track.isActivated (), dump);
+        writer.sendOSC (trackAddress.get (TAG_SELECTED), track.isSelected (), dump);
+        writer.sendOSC (trackAddress.get ("isGroup"), track.isGroup (), dump);
+        writer.sendOSC (trackAddress.get (TAG_NAME), track.getName (), dump);
+        writer.sendOSC (trackAddress.get ("volumeStr"), track.getVolumeStr (), dump);
+        writer.sendOSC (trackAddress.get (TAG_VOLUME), track.getVolume (), dump);
+        writer.sendOSC (trackAddress.get ("panStr"), track.getPanStr (), dump);
+        writer.sendOSC (trackAddress.get ("pan"), track.getPan (), dump);
+        writer.sendOSC (trackAddress.get ("mute"), track.isMute (), dump);
+        writer.sendOSC (trackAddress.get ("solo"), track.isSolo (), dump);
+        writer.sendOSC (trackAddress.get ("recarm"), track.isRecArm (), dump);
+        writer.sendOSC (trackAddress.get ("monitor"), track.isMonitor (), dump);
+        writer.sendOSC (trackAddress.get ("autoMonitor"), track.isAutoMonitor (), dump);
+        writer.sendOSC (trackAddress.get ("canHoldNotes"), track.canHoldNotes (), dump);
+        writer.sendOSC (trackAddress.get ("canHoldAudioData"), track.canHoldAudioData (), dump);
+        writer.sendOSC (trackAddress.get ("position"), track.getPosition (), dump);
 
         if (track instanceof ICursorTrack)
         {
             final ICursorTrack cursorTrack = (ICursorTrack) track;
-            writer.sendOSC (trackAddress + "pinned", cursorTrack.isPinned (), dump);
+            writer.sendOSC (trackAddress.get ("pinned"), cursorTrack.isPinned (), dump);
         }
 
         final ISendBank sendBank = track.getSendBank ();
         for (int i = 0; i < sendBank.getPageSize (); i++)
-            this.flushParameterData (writer, trackAddress + "send/" + (i + 1) + "/", sendBank.getItem (i), dump);
+            this.flushParameterData (writer, trackAddress.get ("send").get (i + 1), sendBank.getItem (i), dump);
 
         final ISlotBank slotBank = track.getSlotBank ();
-        for (int i = 0; i < slotBank.getPageSize (); i++)
+        final OpenSoundControlAddress clipsAddress = trackAddress.get ("clip");
+        if (writer.isSubscribed (clipsAddress))
         {
-            final ISlot slot = slotBank.getItem (i);
-            final String clipAddress = trackAddress + "clip/" + (i + 1) + "/";
-            writer.sendOSC (clipAddress + TAG_NAME, slot.getName (), dump);
-            writer.sendOSC (clipAddress + "isSelected", slot.isSelected (), dump);
-            writer.sendOSC (clipAddress + "hasContent", slot.hasContent (), dump);
-            writer.sendOSC (clipAddress + "isPlaying", slot.isPlaying (), dump);
-            writer.sendOSC (clipAddress + "isRecording", slot.isRecording (), dump);
-            writer.sendOSC (clipAddress + "isPlayingQueued", slot.isPlayingQueued (), dump);
-            writer.sendOSC (clipAddress + "isRecordingQueued", slot.isRecordingQueued (), dump);
-            writer.sendOSC (clipAddress + "isStopQueued", slot.isStopQueued (), dump);
-
-            final ColorEx color = slot.getColor ();
-            writer.sendOSCColor (clipAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+            for (int i = 0; i < slotBank.getPageSize (); i++)
+            {
+                final ISlot slot = slotBank.getItem (i);
+                final OpenSoundControlAddress clipAddress = clipsAddress.get (i + 1);
+                writer.sendOSC (clipAddress.get (TAG_NAME), slot.getName (), dump);
+                writer.sendOSC (clipAddress.get ("isSelected"), slot.isSelected (), dump);
+                writer.sendOSC (clipAddress.get ("hasContent"), slot.hasContent (), dump);
+                writer.sendOSC (clipAddress.get ("isPlaying"), slot.isPlaying (), dump);
+                writer.sendOSC (clipAddress.get ("isRecording"), slot.isRecording (), dump);
+                writer.sendOSC (clipAddress.get ("isPlayingQueued"), slot.isPlayingQueued (), dump);
+                writer.sendOSC (clipAddress.get ("isRecordingQueued"), slot.isRecordingQueued (), dump);
+                writer.sendOSC (clipAddress.get ("isStopQueued"), slot.isStopQueued (), dump);
+
+                final ColorEx color = slot.getColor ();
+                writer.sendOSCColor (clipAddress.get (TAG_COLOR), color.getRed (), color.getGreen (), color.getBlue (), dump);
+            }
         }
 
         final ColorEx color = track.getColor ();
-        writer.sendOSCColor (trackAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+        writer.sendOSCColor (trackAddress.get (TAG_COLOR), color.getRed (), color.getGreen (), color.getBlue (), dump);
 
         final String crossfadeMode = track.getCrossfadeParameter ().getDisplayedValue ();
-        writer.sendOSC (trackAddress + "crossfadeMode/A", "A".equals (crossfadeMode), dump);
-        writer.sendOSC (trackAddress + "crossfadeMode/B", "B".equals (crossfadeMode), dump);
-        writer.sendOSC (trackAddress + "crossfadeMode/AB", "AB".equals (crossfadeMode), dump);
-
-        writer.sendOSC (trackAddress + "vu", this.configuration.isEnableVUMeters () ? track.getVu () : 0, dump);
+        writer.sendOSC (trackAddress.get ("crossfadeMode").get ("A"), "A".equals (crossfadeMode), dump);
+        writer.sendOSC (trackAddress.get ("crossfadeMode").get ("B"), "B".equals (crossfadeMode), dump);
+        writer.sendOSC (trackAddress.get ("crossfadeMode").get ("AB"), "AB".equals (crossfadeMode), dump);
     }
 
 
-    private void parseTrackCommands (final String command, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parseTrackCommands (final String command, final OSCPath path, final IOpenSoundControlMessage message) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final ITrackBank tb = this.model.getCurrentTrackBank ();
         switch (command)
         {
             case TAG_INDICATE:
                 final String indicateCommand = getSubCommand (path);
-                final boolean isTrue = isTrigger (value);
+                final boolean isTrue = isTrigger (message);
                 switch (indicateCommand)
                 {
                     case TAG_VOLUME:
@@ -199,7 +291,7 @@ public class TrackModule extends AbstractModule
                     case "send":
                         if (this.model.isEffectTrackBankActive ())
                             return;
-                        final int sendIndex = Integer.parseInt (path.get (0)) - 1;
+                        final int sendIndex = Integer.parseInt (path.getFirst ()) - 1;
                         for (int i = 0; i < tb.getPageSize (); i++)
                             tb.getItem (i).getSendBank ().getItem (sendIndex).setIndication (isTrue);
                         break;
@@ -275,7 +367,7 @@ public class TrackModule extends AbstractModule
                 break;
 
             case "vu":
-                this.configuration.setVUMetersEnabled (isTrigger (value));
+                this.configuration.setVUMetersEnabled (isTrigger (message));
                 break;
 
             case "toggleBank":
@@ -308,7 +400,7 @@ public class TrackModule extends AbstractModule
             case TAG_SELECTED:
                 final ITrack cursorTrack = this.model.getCursorTrack ();
                 if (cursorTrack.doesExist ())
-                    parseTrackValue (cursorTrack, path, value);
+                    parseTrackValue (cursorTrack, path, message);
                 break;
 
             default:
@@ -317,18 +409,18 @@ public class TrackModule extends AbstractModule
     }
 
 
-    private static void parseTrackValue (final ITrack track, final LinkedList<String> path, final Object value) throws IllegalParameterException, MissingCommandException, UnknownCommandException
+    private static void parseTrackValue (final ITrack track, final OSCPath path, final IOpenSoundControlMessage message) throws IllegalParameterException, MissingCommandException, UnknownCommandException
     {
         final String command = getSubCommand (path);
         switch (command)
         {
             case TAG_NAME:
-                if (value != null)
-                    track.setName (value.toString ());
+                if (hasValue (message))
+                    track.setName (message.getString (0));
                 break;
 
             case "activated":
-                track.setIsActivated (isTrigger (value));
+                track.setIsActivated (isTrigger (message));
                 break;
 
             case "crossfadeMode":
@@ -348,7 +440,7 @@ public class TrackModule extends AbstractModule
 
             case TAG_SELECT:
             case TAG_SELECTED:
-                if (isTrigger (value))
+                if (isTrigger (message))
                     track.select ();
                 break;
 
@@ -358,68 +450,68 @@ public class TrackModule extends AbstractModule
 
             case TAG_VOLUME:
                 if (path.isEmpty ())
-                    track.setVolume (toInteger (value));
-                else if (TAG_INDICATE.equals (path.get (0)))
-                    track.setVolumeIndication (isTrigger (value));
-                else if ("reset".equals (path.get (0)))
+                    track.setVolume (toInteger (message));
+                else if (TAG_INDICATE.equals (path.getFirst ()))
+                    track.setVolumeIndication (isTrigger (message));
+                else if ("reset".equals (path.getFirst ()))
                     track.resetVolume ();
-                else if (TAG_TOUCHED.equals (path.get (0)))
-                    track.touchVolume (isTrigger (value));
+                else if (TAG_TOUCHED.equals (path.getFirst ()))
+                    track.touchVolume (isTrigger (message));
                 break;
 
             case "pan":
                 if (path.isEmpty ())
-                    track.setPan (toInteger (value));
-                else if (TAG_INDICATE.equals (path.get (0)))
-                    track.setPanIndication (isTrigger (value));
-                else if ("reset".equals (path.get (0)))
+                    track.setPan (toInteger (message));
+                else if (TAG_INDICATE.equals (path.getFirst ()))
+                    track.setPanIndication (isTrigger (message));
+                else if ("reset".equals (path.getFirst ()))
                     track.resetPan ();
-                else if (TAG_TOUCHED.equals (path.get (0)))
-                    track.touchPan (isTrigger (value));
+                else if (TAG_TOUCHED.equals (path.getFirst ()))
+                    track.touchPan (isTrigger (message));
                 break;
 
             case "mute":
-                if (value == null)
+                if (!hasValue (message))
                     track.toggleMute ();
                 else
-                    track.setMute (isTrigger (value));
+                    track.setMute (isTrigger (message));
                 break;
 
             case "solo":
-                if (value == null)
+                if (!hasValue (message))
                     track.toggleSolo ();
                 else
-                    track.setSolo (isTrigger (value));
+                    track.setSolo (isTrigger (message));
                 break;
 
             case "recarm":
-                if (value == null)
+                if (!hasValue (message))
                     track.toggleRecArm ();
                 else
-                    track.setRecArm (isTrigger (value));
+                    track.setRecArm (isTrigger (message));
                 break;
 
             case "monitor":
-                if (value == null)
+                if (!hasValue (message))
                     track.toggleMonitor ();
                 else
-                    track.setMonitor (isTrigger (value));
+                    track.setMonitor (isTrigger (message));
                 break;
 
             case "autoMonitor":
-                if (value == null)
+                if (!hasValue (message))
                     track.toggleAutoMonitor ();
                 else
-                    track.setAutoMonitor (isTrigger (value));
+                    track.setAutoMonitor (isTrigger (message));
                 break;
 
             case "send":
-                final int sendNo = Integer.parseInt (path.removeFirst ()) - 1;
-                parseSendValue (track, sendNo, path, value);
+                final int sendNo = path.removeFirstNumber () - 1;
+                parseSendValue (track, sendNo, path, message);
                 break;
 
             case "clip":
-                parseClipValue (track, path, value);
+                parseClipValue (track, path, message);
                 break;
 
             case "enter":
@@ -427,7 +519,7 @@ public class TrackModule extends AbstractModule
                 break;
 
             case TAG_COLOR:
-                final ColorEx color = matchColor (toString (value));
+                final ColorEx color = matchColor (toString (message));
                 if (color != null)
                     track.setColor (color);
                 break;
@@ -436,10 +528,10 @@ public class TrackModule extends AbstractModule
                 if (track instanceof ICursorTrack)
                 {
                     final ICursorTrack cursorTrack = (ICursorTrack) track;
-                    if (value == null)
+                    if (!hasValue (message))
                         cursorTrack.togglePinned ();
                     else
-                        cursorTrack.setPinned (isTrigger (value));
+                        cursorTrack.setPinned (isTrigger (message));
                 }
                 break;
 
@@ -449,13 +541,11 @@ public class TrackModule extends AbstractModule
     }
 
 
-    private static void parseClipValue (final ITrack track, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private static void parseClipValue (final ITrack track, final OSCPath path, final IOpenSoundControlMessage message) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
-        final String command = getSubCommand (path);
-
-        try
+        if (path.isFirstNumber ())
         {
-            final int clipNo = Integer.parseInt (command) - 1;
+            final int clipNo = path.removeFirstNumber () - 1;
             final String clipCommand = getSubCommand (path);
             final ISlot slot = track.getSlotBank ().getItem (clipNo);
             switch (clipCommand)
@@ -474,32 +564,32 @@ public class TrackModule extends AbstractModule
                     slot.remove ();
                     break;
                 case TAG_COLOR:
-                    final ColorEx color = matchColor (toString (value));
+                    final ColorEx color = matchColor (toString (message));
                     if (color != null)
                         slot.setColor (color);
                     break;
                 default:
                     throw new UnknownCommandException (clipCommand);
             }
+            return;
         }
-        catch (final NumberFormatException ex)
+
+        final String command = getSubCommand (path);
+        switch (command)
         {
-            switch (command)
-            {
-                case "stop":
-                    track.stop ();
-                    break;
-                case "returntoarrangement":
-                    track.returnToArrangement ();
-                    break;
-                default:
-                    throw new UnknownCommandException (command);
-            }
+            case "stop":
+                track.stop ();
+                break;
+            case "returntoarrangement":
+                track.returnToArrangement ();
+                break;
+            default:
+                throw new UnknownCommandException (command);
         }
     }
 
 
-    private static void parseSendValue (final ITrack track, final int sendIndex, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private static void parseSendValue (final ITrack track, final int sendIndex, final OSCPath path, final IOpenSoundControlMessage message) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final String command = getSubCommand (path);
         if (!TAG_VOLUME.equals (command))
@@ -510,10 +600,10 @@ public class TrackModule extends AbstractModule
             return;
 
         if (path.isEmpty ())
-            send.setValue (toInteger (value));
-        else if (TAG_INDICATE.equals (path.get (0)))
-            send.setIndication (isTrigger (value));
-        else if (TAG_TOUCHED.equals (path.get (0)))
-            send.touchValue (isTrigger (value));
+            send.setValue (toInteger (message));
+        else if (TAG_INDICATE.equals (path.getFirst ()))
+            send.setIndication (isTrigger (message));
+        else if (TAG_TOUCHED.equals (path.getFirst ()))
+            send.touchValue (isTrigger (message));
     }
 }
@@ -9,16 +9,18 @@ import de.mossgrabers.controller.osc.OSCControlSurface;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCMeterChannel;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.command.trigger.transport.PlayCommand;
 import de.mossgrabers.framework.daw.IClip;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ITransport;
 import de.mossgrabers.framework.daw.constants.AutomationMode;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
-import java.util.LinkedList;
 import java.util.Locale;
 
 
@@ -40,13 +42,16 @@ public class TransportModule extends AbstractModule
      * @param model The model
      * @param surface The surface
      * @param writer The writer
+     * @param meterChannel The channel to send the play position
      */
-    public TransportModule (final IHost host, final IModel model, final OSCControlSurface surface, final IOpenSoundControlWriter writer)
+    public TransportModule (final IHost host, final IModel model, final OSCControlSurface surface, final IOpenSoundControlWriter writer, final OSCMeterChannel meterChannel)
     {
         super (host, model, writer);
 
         this.transport = model.getTransport ();
         this.playCommand = new PlayCommand<> (model, surface);
+
+        meterChannel.addMeter ( () -> this.flushPosition (false));
     }
 
 
@@ -80,9 +85,9 @@ public class TransportModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final IOpenSoundControlMessage message) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
-        final boolean isTrigger = isTrigger (value);
+        final boolean isTrigger = isTrigger (message);
 
         switch (command)
         {
@@ -114,28 +119,28 @@ public class TransportModule extends AbstractModule
                 break;
 
             case "overdub":
-                if (!path.isEmpty () && "launcher".equals (path.get (0)))
+                if (!path.isEmpty () && "launcher".equals (path.getFirst ()))
                     this.transport.toggleLauncherOverdub ();
                 else
                     this.transport.toggleOverdub ();
                 break;
 
             case "repeat":
-                if (value == null)
+                if (!hasValue (message))
                     this.transport.toggleLoop ();
                 else
                     this.transport.setLoop (isTrigger);
                 break;
 
             case "punchIn":
-                if (value == null)
+                if (!hasValue (message))
                     this.transport.togglePunchIn ();
                 else
                     this.transport.setPunchIn (isTrigger);
                 break;
 
             case "punchOut":
-                if (value == null)
+                if (!hasValue (message))
                     this.transport.togglePunchOut ();
                 else
                     this.transport.setPunchOut (isTrigger);
@@ -144,7 +149,7 @@ public class TransportModule extends AbstractModule
             case "click":
                 if (path.isEmpty ())
                 {
-                    if (value == null)
+                    if (!hasValue (message))
                         this.transport.toggleMetronome ();
                     else
                         this.transport.setMetronome (isTrigger);
@@ -154,10 +159,10 @@ public class TransportModule extends AbstractModule
                 switch (subCommand)
                 {
                     case "volume":
-                        this.transport.setMetronomeVolume (toInteger (value));
+                        this.transport.setMetronomeVolume (toInteger (message));
                         break;
                     case "ticks":
-                        if (value == null)
+                        if (!hasValue (message))
                             this.transport.toggleMetronomeTicks ();
                         else
                             this.transport.setMetronomeTicks (isTrigger);
@@ -182,17 +187,17 @@ public class TransportModule extends AbstractModule
                 switch (tempoCommand)
                 {
                     case "raw":
-                        this.transport.setTempo (toNumber (value));
+                        this.transport.setTempo (toNumber (message));
                         break;
                     case "tap":
                         if (isTrigger)
                             this.transport.tapTempo ();
                         break;
                     case "+":
-                        this.transport.setTempo (this.transport.getTempo () + toNumber (value, 1.0));
+                        this.transport.setTempo (this.transport.getTempo () + toNumber (message, 1.0));
                         break;
                     case "-":
-                        this.transport.setTempo (this.transport.getTempo () - toNumber (value, 1.0));
+                        this.transport.setTempo (this.transport.getTempo () - toNumber (message, 1.0));
                         break;
                     default:
                         throw new UnknownCommandException (tempoCommand);
@@ -200,17 +205,17 @@ public class TransportModule extends AbstractModule
                 break;
 
             case "time":
-                this.transport.setPosition (toNumber (value));
+                this.transport.setPosition (toNumber (message));
                 break;
 
             case "position":
                 if (path.isEmpty ())
                 {
-                    final double numValue = toNumber (value);
+                    final double numValue = toNumber (message);
                     this.transport.changePosition (numValue >= 0, Math.abs (numValue) <= 1);
                     break;
                 }
-                final String positionCommand = path.get (0);
+                final String positionCommand = path.getFirst ();
                 switch (positionCommand)
                 {
                     case "+":
@@ -234,23 +239,23 @@ public class TransportModule extends AbstractModule
                 break;
 
             case "crossfade":
-                this.transport.setCrossfade (toInteger (value));
+                this.transport.setCrossfade (toInteger (message));
                 break;
 
             case "autowrite":
-                if (!path.isEmpty () && "launcher".equals (path.get (0)))
+                if (!path.isEmpty () && "launcher".equals (path.getFirst ()))
                     this.transport.toggleWriteClipLauncherAutomation ();
                 else
                     this.transport.toggleWriteArrangerAutomation ();
                 break;
 
             case "automationWriteMode":
-                if (value != null)
-                    this.transport.setAutomationWriteMode (AutomationMode.valueOf (value.toString ().toUpperCase (Locale.US)));
+                if (hasValue (message))
+                    this.transport.setAutomationWriteMode (AutomationMode.valueOf (message.getString (0).toUpperCase (Locale.US)));
                 break;
 
             case TAG_PREROLL:
-                this.transport.setPrerollAsBars (toInteger (value));
+                this.transport.setPrerollAsBars (toInteger (message));
                 break;
 
             default:
@@ -281,8 +286,23 @@ public class TransportModule extends AbstractModule
         this.writer.sendOSC ("/autowrite", this.transport.isWritingArrangerAutomation (), dump);
         this.writer.sendOSC ("/autowrite/launcher", this.transport.isWritingClipLauncherAutomation (), dump);
         this.writer.sendOSC ("/automationWriteMode", this.transport.getAutomationWriteMode ().getIdentifier (), dump);
-        this.writer.sendOSC ("/time/str", this.transport.getPositionText (), dump);
         this.writer.sendOSC ("/time/signature", this.transport.getNumerator () + " / " + this.transport.getDenominator (), dump);
+
+        // The play position is sent by the meter channel, a dump needs to send it now
+        if (dump)
+            this.flushPosition (true);
+    }
+
+
+    /**
+     * Send the play position. Formatting the position texts is expensive, therefore this is only
+     * called with the meter rate.
+     *
+     * @param dump Forces a flush if true otherwise only changed values are flushed
+     */
+    private void flushPosition (final boolean dump)
+    {
+        this.writer.sendOSC ("/time/str", this.transport.getPositionText (), dump);
         this.writer.sendOSC ("/beat/str", this.transport.getBeatText (), dump);
     }
 }
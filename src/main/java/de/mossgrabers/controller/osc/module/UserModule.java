@@ -7,13 +7,14 @@ package de.mossgrabers.controller.osc.module;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCPath;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.daw.data.bank.IParameterBank;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
-
-import java.util.LinkedList;
+import de.mossgrabers.framework.osc.OpenSoundControlAddress;
 
 
 /**
@@ -23,6 +24,9 @@ import java.util.LinkedList;
  */
 public class UserModule extends AbstractModule
 {
+    private final OpenSoundControlAddress userAddress;
+
+
     /**
      * Constructor.
      *
@@ -33,6 +37,8 @@ public class UserModule extends AbstractModule
     public UserModule (final IHost host, final IModel model, final IOpenSoundControlWriter writer)
     {
         super (host, model, writer);
+
+        this.userAddress = writer.getAddress ("/user");
     }
 
 
@@ -49,10 +55,10 @@ public class UserModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    public void execute (final String command, final OSCPath path, final IOpenSoundControlMessage message) throws IllegalParameterException, UnknownCommandException, MissingCommandException
     {
         if ("user".equals (command))
-            this.parseUserValue (path, value);
+            this.parseUserValue (path, message);
         else
             throw new UnknownCommandException (command);
     }
@@ -62,13 +68,14 @@ public class UserModule extends AbstractModule
     @Override
     public void flush (final boolean dump)
     {
-        final String userAddress = "/user/";
+        if (!this.writer.isSubscribed (this.userAddress))
+            return;
 
         final IParameterBank parameterBank = this.model.getUserParameterBank ();
         for (int i = 0; i < parameterBank.getPageSize (); i++)
         {
             final int oneplus = i + 1;
-            this.flushParameterData (this.writer, userAddress + oneplus + "/", parameterBank.getItem (i), dump);
+            this.flushParameterData (this.writer, this.userAddress.get (oneplus), parameterBank.getItem (i), dump);
         }
 
         final int numPages = parameterBank.getItemCount () / parameterBank.getPageSize ();
@@ -76,59 +83,59 @@ public class UserModule extends AbstractModule
         for (int i = 0; i < numPages; i++)
         {
             final int oneplus = i + 1;
-            this.writer.sendOSC (userAddress + "page/" + oneplus + "/", "Page " + (i + 1), dump);
-            this.writer.sendOSC (userAddress + "page/" + oneplus + "/selected", selectedPage == i, dump);
+            final OpenSoundControlAddress pageAddress = this.userAddress.get (TAG_PAGE).get (oneplus);
+            this.writer.sendOSC (pageAddress.get (""), "Page " + (i + 1), dump);
+            this.writer.sendOSC (pageAddress.get (TAG_SELECTED), selectedPage == i, dump);
         }
-        this.writer.sendOSC (userAddress + "page/selected/name", "Page " + (selectedPage + 1), dump);
+        this.writer.sendOSC (this.userAddress.get (TAG_PAGE).get (TAG_SELECTED).get (TAG_NAME), "Page " + (selectedPage + 1), dump);
     }
 
 
-    private void parseUserValue (final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private void parseUserValue (final OSCPath path, final IOpenSoundControlMessage message) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final IParameterBank parameterBank = this.model.getUserParameterBank ();
-        final String subCommand = getSubCommand (path);
-        try
+        if (path.isFirstNumber ())
         {
-            final int paramNo = Integer.parseInt (subCommand) - 1;
-            parseFXParamValue (parameterBank.getItem (paramNo), path, value);
+            final int paramNo = path.removeFirstNumber () - 1;
+            parseFXParamValue (parameterBank.getItem (paramNo), path, message);
+            return;
         }
-        catch (final NumberFormatException ex)
+
+        final String subCommand = getSubCommand (path);
+        switch (subCommand)
         {
-            switch (subCommand)
-            {
-                case "+":
-                    if (isTrigger (value))
-                        parameterBank.selectNextPage ();
-                    break;
-
-                case "-":
-                    if (isTrigger (value))
-                        parameterBank.selectPreviousPage ();
-                    break;
-
-                case "page":
-                    final String pageCommand = getSubCommand (path);
-                    if ("select".equals (pageCommand) || "selected".equals (pageCommand))
+            case "+":
+                if (isTrigger (message))
+                    parameterBank.selectNextPage ();
+                break;
+
+            case "-":
+                if (isTrigger (message))
+                    parameterBank.selectPreviousPage ();
+                break;
+
+            case "page":
+                final String pageCommand = getSubCommand (path);
+                if ("select".equals (pageCommand) || "selected".equals (pageCommand))
+                {
+                    this.selectPage (parameterBank, toInteger (message) - 1);
+                }
+                else
+                {
+                    try
                     {
-                        this.selectPage (parameterBank, toInteger (value) - 1);
+                        final int index = Integer.parseInt (pageCommand) - 1;
+                        this.selectPage (parameterBank, index);
                     }
-                    else
+                    catch (final NumberFormatException ex2)
                     {
-                        try
-                        {
-                            final int index = Integer.parseInt (pageCommand) - 1;
-                            this.selectPage (parameterBank, index);
-                        }
-                        catch (final NumberFormatException ex2)
-                        {
-                            throw new UnknownCommandException (pageCommand);
-                        }
+                        throw new UnknownCommandException (pageCommand);
                     }
-                    break;
+                }
+                break;
 
-                default:
-                    throw new UnknownCommandException (subCommand);
-            }
+            default:
+                throw new UnknownCommandException (subCommand);
         }
     }
 
@@ -143,17 +150,17 @@ public class UserModule extends AbstractModule
     }
 
 
-    private static void parseFXParamValue (final IParameter parameter, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
+    private static void parseFXParamValue (final IParameter parameter, final OSCPath path, final IOpenSoundControlMessage message) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final String command = getSubCommand (path);
         switch (command)
         {
             case "value":
-                parameter.setValue (toInteger (value));
+                parameter.setValue (toInteger (message));
                 break;
 
             case "indicate":
-                parameter.setIndication (isTrigger (value));
+                parameter.setIndication (isTrigger (message));
                 break;
 
             case "reset":
@@ -161,7 +168,7 @@ public class UserModule extends AbstractModule
                 break;
 
             case "touched":
-                parameter.touchValue (isTrigger (value));
+                parameter.touchValue (isTrigger (message));
                 break;
 
             default:
@@ -0,0 +1,176 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.protocol;
+
+import de.mossgrabers.controller.osc.module.IModule;
+
+import java.util.Arrays;
+
+
+/**
+ * A character trie of the segments of OSC addresses. The top level commands are registered with
+ * the module which handles them. All other segments are added when they are received for the first
+ * time. Looking up a known segment returns its string instance and its numeric value without
+ * creating any objects.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+class OSCAddressTrie
+{
+    /** Limits the memory used by unique segments, e.g. names sent by a client. */
+    private static final int MAX_LEARNED_SEGMENTS = 4096;
+
+    private final Node       root                 = new Node ();
+    private int              learnedSegments      = 0;
+
+
+    /**
+     * Register a top level command.
+     *
+     * @param command The command, e.g. track
+     * @param module The module which executes the command
+     */
+    public void register (final String command, final IModule module)
+    {
+        this.insert (command, 0, command.length ()).module = module;
+    }
+
+
+    /**
+     * Find the node of a segment of an address. Unknown segments are added as long as the limit of
+     * learned segments is not reached.
+     *
+     * @param address The address which contains the segment
+     * @param start The index of the first character of the segment
+     * @param end The index after the last character of the segment
+     * @return The node or null if the segment is unknown and the trie is full
+     */
+    public Node lookup (final String address, final int start, final int end)
+    {
+        Node node = this.root;
+        for (int i = start; i < end && node != null; i++)
+            node = node.getChild (address.charAt (i));
+        if (node != null && node.segment != null)
+            return node;
+
+        if (this.learnedSegments >= MAX_LEARNED_SEGMENTS)
+            return null;
+        this.learnedSegments++;
+        return this.insert (address, start, end);
+    }
+
+
+    /**
+     * Parse a segment as a positive decimal number.
+     *
+     * @param text The text which contains the segment
+     * @param start The index of the first character of the segment
+     * @param end The index after the last character of the segment
+     * @return The number or -1 if the segment is not a number
+     */
+    public static int parseNumber (final String text, final int start, final int end)
+    {
+        // Limit to 9 digits to prevent an overflow
+        if (start == end || end - start > 9)
+            return -1;
+
+        int number = 0;
+        for (int i = start; i < end; i++)
+        {
+            final char c = text.charAt (i);
+            if (c < '0' || c > '9')
+                return -1;
+            number = number * 10 + c - '0';
+        }
+        return number;
+    }
+
+
+    private Node insert (final String address, final int start, final int end)
+    {
+        Node node = this.root;
+        for (int i = start; i < end; i++)
+            node = node.getOrAddChild (address.charAt (i));
+        if (node.segment == null)
+        {
+            node.segment = address.substring (start, end);
+            node.number = parseNumber (address, start, end);
+        }
+        return node;
+    }
+
+
+    /**
+     * A node of the trie. It represents a segment if the segment string is set.
+     */
+    static final class Node
+    {
+        private char [] keys     = new char [0];
+        private Node [] children = new Node [0];
+        private String  segment;
+        private int     number   = -1;
+        private IModule module;
+
+
+        /**
+         * Get the segment which ends at this node.
+         *
+         * @return The segment
+         */
+        public String getSegment ()
+        {
+            return this.segment;
+        }
+
+
+        /**
+         * Get the numeric value of the segment.
+         *
+         * @return The number or -1 if the segment is not a number
+         */
+        public int getNumber ()
+        {
+            return this.number;
+        }
+
+
+        /**
+         * Get the module which is registered for the segment as a top level command.
+         *
+         * @return The module or null
+         */
+        public IModule getModule ()
+        {
+            return this.module;
+        }
+
+
+        private Node getChild (final char c)
+        {
+            for (int i = 0; i < this.keys.length; i++)
+            {
+                if (this.keys[i] == c)
+                    return this.children[i];
+            }
+            return null;
+        }
+
+
+        private Node getOrAddChild (final char c)
+        {
+            Node child = this.getChild (c);
+            if (child != null)
+                return child;
+
+            child = new Node ();
+            final int length = this.keys.length;
+            this.keys = Arrays.copyOf (this.keys, length + 1);
+            this.children = Arrays.copyOf (this.children, length + 1);
+            this.keys[length] = c;
+            this.children[length] = child;
+            return child;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.protocol;
+
+import de.mossgrabers.controller.osc.OSCConfiguration;
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Sends fast changing values like VU meters and the play position with the configured meter rate,
+ * independent from how often the DAW flushes. Therefore, the traffic of these values is bounded.
+ * The modules sample the values on each flush (e.g. keep the peak of a VU meter) and send them when
+ * their meter is called.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OSCMeterChannel
+{
+    private final IHost            host;
+    private final OSCWriter        writer;
+    private final OSCConfiguration configuration;
+    private final List<Runnable>   meters    = new ArrayList<> ();
+    private boolean                isRunning = false;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param writer The writer
+     * @param configuration The configuration
+     */
+    public OSCMeterChannel (final IHost host, final OSCWriter writer, final OSCConfiguration configuration)
+    {
+        this.host = host;
+        this.writer = writer;
+        this.configuration = configuration;
+    }
+
+
+    /**
+     * Register a meter.
+     *
+     * @param meter Sends the sampled values to the writer
+     */
+    public void addMeter (final Runnable meter)
+    {
+        this.meters.add (meter);
+    }
+
+
+    /**
+     * Start sending the meters.
+     */
+    public void start ()
+    {
+        if (this.isRunning)
+            return;
+        this.isRunning = true;
+        this.scheduleNext ();
+    }
+
+
+    /**
+     * Stop sending the meters.
+     */
+    public void stop ()
+    {
+        this.isRunning = false;
+    }
+
+
+    /**
+     * Are the meters sent?
+     *
+     * @return True if running
+     */
+    public boolean isRunning ()
+    {
+        return this.isRunning;
+    }
+
+
+    private void flushMeters ()
+    {
+        if (!this.isRunning)
+            return;
+
+        if (this.writer.isConnected ())
+        {
+            this.meters.forEach (Runnable::run);
+            this.writer.flush ();
+        }
+
+        this.scheduleNext ();
+    }
+
+
+    private void scheduleNext ()
+    {
+        this.host.scheduleTask (this::flushMeters, Math.max (1, 1000 / this.configuration.getMeterRate ()));
+    }
+}
@@ -4,6 +4,7 @@
 
 package de.mossgrabers.controller.osc.protocol;
 
+import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.OSCControlSurface;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
@@ -13,16 +14,23 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.osc.AbstractOpenSoundControlParser;
-import de.mossgrabers.framework.osc.IOpenSoundControlConfiguration;
+import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 import de.mossgrabers.framework.utils.KeyManager;
 
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 
 
 /**
@@ -32,8 +40,17 @@ import java.util.Map;
  */
 public class OSCParser extends AbstractOpenSoundControlParser
 {
-    private final OSCControlSurface    surface;
-    private final Map<String, IModule> modules = new HashMap<> ();
+    /** The maximum number of clients which can be added with /subscribe. */
+    private static final int          MAX_SUBSCRIBERS = 8;
+    private static final String       TOKEN_ADDRESS   = "/subscription/token";
+    private static final Random       RANDOM          = new SecureRandom ();
+
+    private final OSCControlSurface   surface;
+    private final OSCAddressTrie      trie            = new OSCAddressTrie ();
+    private final OSCPath             path            = new OSCPath (this.trie);
+    private final Set<String>         subscribeHosts  = new HashSet<> ();
+    // The clients which were added with /subscribe and their tokens
+    private final Map<String, String> subscribers     = new HashMap<> ();
 
 
     /**
@@ -47,12 +64,19 @@ public class OSCParser extends AbstractOpenSoundControlParser
      * @param midiInput The midi input
      * @param keyManager The key manager
      */
-    public OSCParser (final IHost host, final OSCControlSurface surface, final IModel model, final IOpenSoundControlConfiguration configuration, final IOpenSoundControlWriter writer, final IMidiInput midiInput, final KeyManager keyManager)
+    public OSCParser (final IHost host, final OSCControlSurface surface, final IModel model, final OSCConfiguration configuration, final IOpenSoundControlWriter writer, final IMidiInput midiInput, final KeyManager keyManager)
     {
         super (host, model, midiInput, configuration, writer);
 
         this.surface = surface;
 
+        for (final String subscribeHost: configuration.getSubscribeHosts ().split (","))
+        {
+            final String trimmed = subscribeHost.trim ();
+            if (!trimmed.isEmpty ())
+                this.subscribeHosts.add (trimmed.toLowerCase (Locale.US));
+        }
+
         this.model.getCurrentTrackBank ().setIndication (true);
         this.surface.setKeyTranslationTable (model.getScales ().getNoteMatrix ());
     }
@@ -64,27 +88,30 @@ public class OSCParser extends AbstractOpenSoundControlParser
     {
         this.logMessage (message);
 
-        final LinkedList<String> oscParts = parseAddress (message);
-        if (oscParts.isEmpty ())
+        this.path.setAddress (message.getAddress ());
+        if (this.path.isEmpty ())
             return;
 
-        final String command = oscParts.removeFirst ();
+        final IModule module = this.path.getModule ();
+        final String command = this.path.removeFirst ();
         if ("refresh".equals (command))
         {
-            this.writer.flush (true);
+            // The sender is unknown, therefore all clients catch up
+            this.writer.refresh (message.size () > 0 && message.getValue (0) instanceof Number ? ((Number) message.getValue (0)).longValue () : -1);
             return;
         }
 
-        final Object [] values = message.getValues ();
         try
         {
-            final IModule module = this.modules.get (command);
+            if ("subscribe".equals (command) || "unsubscribe".equals (command))
+            {
+                this.handleSubscription ("subscribe".equals (command), message);
+                return;
+            }
+
             if (module == null)
                 throw new UnknownCommandException (command);
-            if (values != null && values.length > 1)
-                module.execute (command, oscParts, values);
-            else
-                module.execute (command, oscParts, values == null || values.length == 0 ? null : values[0]);
+            module.execute (command, this.path, message);
         }
         catch (final IllegalParameterException ex)
         {
@@ -98,23 +125,88 @@ public class OSCParser extends AbstractOpenSoundControlParser
         {
             this.host.println ("Missing command: " + message.getAddress ());
         }
+        catch (final NumberFormatException ex)
+        {
+            this.host.println ("Number expected: " + message.getAddress () + " " + ex.getMessage ());
+        }
     }
 
 
     /**
-     * Parses the OSC message into seprate parts.
+     * Add or remove an additional client which receives the OSC updates. The host and port can be
+     * followed by address patterns to which the updates are restricted. Subscribing an existing
+     * client only changes its address patterns. Only the hosts which are allowed in the
+     * configuration can subscribe, since the sender of a message is unknown and anybody could
+     * redirect the updates to any host otherwise. The number of additional clients is limited
+     * since each one has its own UDP channel and sender thread.
+     *
+     * A new client receives a token with the address /subscription/token. A client can only be
+     * unsubscribed with this token, which ensures that only the client itself can do it.
      *
-     * @param message The message
-     * @return The split parts
+     * @param subscribe True to add the client, false to remove it
+     * @param message The message with the host name and the port of the client followed by optional
+     *            address patterns or the token to unsubscribe
+     * @throws IllegalParameterException If the host or port is missing or invalid, the host is not
+     *             allowed, too many clients are subscribed or the token does not match
      */
-    private static LinkedList<String> parseAddress (final IOpenSoundControlMessage message)
+    private void handleSubscription (final boolean subscribe, final IOpenSoundControlMessage message) throws IllegalParameterException
     {
-        final LinkedList<String> oscParts = new LinkedList<> ();
-        Collections.addAll (oscParts, message.getAddress ().split ("/"));
+        if (message.size () < 2 || message.getValue (0) == null || !(message.getValue (1) instanceof Number))
+            throw new IllegalParameterException ("Host and port are required.");
+
+        final String clientHost = message.getString (0);
+        final int clientPort = message.getInt (1);
+        if (clientPort <= 0 || clientPort > 65535)
+            throw new IllegalParameterException ("Port out of range: " + clientPort);
+
+        final String id = clientHost + ":" + clientPort;
+        if (subscribe)
+        {
+            if (!this.subscribeHosts.contains (clientHost.toLowerCase (Locale.US)))
+                throw new IllegalParameterException ("Host is not allowed to subscribe: " + clientHost);
+
+            final List<String> patterns = new ArrayList<> ();
+            for (int i = 2; i < message.size (); i++)
+                patterns.add (String.valueOf (message.getString (i)));
+
+            this.host.println ("Subscribing OSC client " + id + " " + patterns);
+            if (!this.writer.hasClient (id))
+            {
+                if (this.subscribers.size () >= MAX_SUBSCRIBERS)
+                    throw new IllegalParameterException ("Too many subscribed clients, the maximum is " + MAX_SUBSCRIBERS + ".");
+                final IOpenSoundControlClient client = this.host.connectToOSCServer (clientHost, clientPort);
+                this.writer.addClient (id, client);
+                final String token = Long.toHexString (RANDOM.nextLong ());
+                this.subscribers.put (id, token);
+                this.sendToken (id, client, token);
+            }
+            this.writer.setSubscriptions (id, patterns);
+        }
+        else
+        {
+            final String token = this.subscribers.get (id);
+            if (token == null)
+                throw new IllegalParameterException ("Client was not subscribed: " + id);
+            if (message.size () < 3 || !token.equals (message.getString (2)))
+                throw new IllegalParameterException ("The token of the client is required to unsubscribe: " + id);
+
+            this.host.println ("Unsubscribing OSC client " + id);
+            this.subscribers.remove (id);
+            this.writer.removeClient (id);
+        }
+    }
+
 
-        // Remove first empty element
-        oscParts.removeFirst ();
-        return oscParts;
+    private void sendToken (final String id, final IOpenSoundControlClient client, final String token)
+    {
+        try
+        {
+            client.sendMessage (this.host.createOSCMessage (TOKEN_ADDRESS, Collections.singletonList (token)));
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not send UDP message to " + id + ".", ex);
+        }
     }
 
 
@@ -125,6 +217,6 @@ public class OSCParser extends AbstractOpenSoundControlParser
      */
     public void registerModule (final IModule module)
     {
-        Arrays.asList (module.getSupportedCommands ()).forEach (command -> this.modules.put (command, module));
+        Arrays.asList (module.getSupportedCommands ()).forEach (command -> this.trie.register (command, module));
     }
 }
\ No newline at end of file
@@ -0,0 +1,188 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.protocol;
+
+import de.mossgrabers.controller.osc.module.IModule;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+
+/**
+ * The segments of an OSC address, which are consumed from the front by the modules. The address is
+ * split in place and the segments are looked up in a trie. Therefore, parsing an address with known
+ * segments does not create any objects. The instance is reused for all received messages.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OSCPath
+{
+    private final OSCAddressTrie trie;
+
+    private String []            segments = new String [16];
+    private int []               numbers  = new int [16];
+    private int                  size     = 0;
+    private int                  first    = 0;
+    private IModule              module;
+
+
+    /**
+     * Constructor.
+     *
+     * @param trie The trie to look up the segments
+     */
+    OSCPath (final OSCAddressTrie trie)
+    {
+        this.trie = trie;
+    }
+
+
+    /**
+     * Split an address into its segments. A leading slash is ignored as well as trailing empty
+     * segments.
+     *
+     * @param address The address, e.g. /track/1/volume
+     */
+    void setAddress (final String address)
+    {
+        this.size = 0;
+        this.first = 0;
+        this.module = null;
+
+        final int length = address.length ();
+        int start = length > 0 && address.charAt (0) == '/' ? 1 : 0;
+        while (start < length)
+        {
+            int end = address.indexOf ('/', start);
+            if (end < 0)
+                end = length;
+            this.addSegment (address, start, end);
+            start = end + 1;
+        }
+
+        while (this.size > 0 && this.segments[this.size - 1].isEmpty ())
+            this.size--;
+    }
+
+
+    /**
+     * Get the module which is registered for the first segment of the address.
+     *
+     * @return The module or null if the first segment is not a registered command
+     */
+    IModule getModule ()
+    {
+        return this.module;
+    }
+
+
+    /**
+     * Test if there are no more segments.
+     *
+     * @return True if all segments are consumed
+     */
+    public boolean isEmpty ()
+    {
+        return this.first >= this.size;
+    }
+
+
+    /**
+     * Get the next segment without removing it.
+     *
+     * @return The segment
+     * @throws NoSuchElementException If the path is empty
+     */
+    public String getFirst ()
+    {
+        this.checkNotEmpty ();
+        return this.segments[this.first];
+    }
+
+
+    /**
+     * Get the next segment and remove it.
+     *
+     * @return The segment
+     * @throws NoSuchElementException If the path is empty
+     */
+    public String removeFirst ()
+    {
+        this.checkNotEmpty ();
+        return this.segments[this.first++];
+    }
+
+
+    /**
+     * Test if the next segment is a positive decimal number.
+     *
+     * @return True if there is a next segment and it is a number
+     */
+    public boolean isFirstNumber ()
+    {
+        return !this.isEmpty () && this.numbers[this.first] >= 0;
+    }
+
+
+    /**
+     * Get the next segment as a number and remove it.
+     *
+     * @return The number
+     * @throws NoSuchElementException If the path is empty
+     * @throws NumberFormatException If the segment is not a positive decimal number
+     */
+    public int removeFirstNumber ()
+    {
+        this.checkNotEmpty ();
+        final int number = this.numbers[this.first];
+        if (number < 0)
+            throw new NumberFormatException ("For input string: \"" + this.segments[this.first] + "\"");
+        this.first++;
+        return number;
+    }
+
+
+    /**
+     * Put the last removed segment back to the front of the path.
+     */
+    public void restoreFirst ()
+    {
+        if (this.first == 0)
+            throw new IllegalStateException ("No segment was removed.");
+        this.first--;
+    }
+
+
+    private void addSegment (final String address, final int start, final int end)
+    {
+        if (this.size == this.segments.length)
+        {
+            this.segments = Arrays.copyOf (this.segments, 2 * this.size);
+            this.numbers = Arrays.copyOf (this.numbers, 2 * this.size);
+        }
+
+        final OSCAddressTrie.Node node = this.trie.lookup (address, start, end);
+        if (node == null)
+        {
+            this.segments[this.size] = address.substring (start, end);
+            this.numbers[this.size] = OSCAddressTrie.parseNumber (address, start, end);
+        }
+        else
+        {
+            this.segments[this.size] = node.getSegment ();
+            this.numbers[this.size] = node.getNumber ();
+            if (this.size == 0)
+                this.module = node.getModule ();
+        }
+        this.size++;
+    }
+
+
+    private void checkNotEmpty ()
+    {
+        if (this.isEmpty ())
+            throw new NoSuchElementException ();
+    }
+}
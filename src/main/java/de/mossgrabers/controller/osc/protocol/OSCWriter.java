@@ -9,7 +9,6 @@ import de.mossgrabers.controller.osc.module.IModule;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.osc.AbstractOpenSoundControlWriter;
-import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -30,12 +29,11 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
      *
      * @param host The host
      * @param model The model
-     * @param oscClient The OSC client to write to
      * @param configuration The configuration
      */
-    public OSCWriter (final IHost host, final IModel model, final IOpenSoundControlClient oscClient, final OSCConfiguration configuration)
+    public OSCWriter (final IHost host, final IModel model, final OSCConfiguration configuration)
     {
-        super (host, model, oscClient, configuration);
+        super (host, model, configuration);
     }
 
 
@@ -45,6 +43,7 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
     {
         if (!this.isConnected ())
             return;
+        this.startFlush ();
         this.modules.forEach (module -> module.flush (dump));
         this.flush ("/update");
     }
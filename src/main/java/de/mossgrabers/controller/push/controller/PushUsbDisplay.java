@@ -10,11 +10,14 @@ import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.IUsbEndpoint;
 import de.mossgrabers.framework.usb.UsbException;
+import de.mossgrabers.framework.utils.TripleBuffer;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
@@ -27,8 +30,22 @@ public class PushUsbDisplay
     /** The size of the display content. */
     private static final int               DATA_SZ          = 20 * 0x4000;
 
+    /** The number of lines of the display. */
+    private static final int               LINES            = 160;
+    /** The size of one line of the display content including the padding. */
+    private static final int               LINE_SZ          = DATA_SZ / LINES;
+
     private static final int               TIMEOUT          = 1000;
 
+    /** The default maximum number of frames per second to send to the display. */
+    public static final int                DEFAULT_FPS      = 30;
+
+    /**
+     * Re-send an unchanged frame after this time (in milliseconds), the display turns black if it
+     * does not receive a frame for 2 seconds.
+     */
+    private static final int               KEEP_ALIVE       = 1000;
+
     private static final byte []           DISPLAY_HEADER   =
     {
         (byte) 0xef,
@@ -54,19 +71,39 @@ public class PushUsbDisplay
     private final IHost                    host;
     private final IMemoryBlock             headerBlock;
     private final IMemoryBlock             imageBlock;
-    private final byte []                  byteStore        = new byte [DATA_SZ];
+    private byte []                        pixelStore       = new byte [0];
+    private byte []                        lastFrame        = null;
+    private boolean                        isDirty          = false;
+    private long                           lastSend         = 0;
+
+    private final TripleBuffer<byte []>    frames           = new TripleBuffer<> ( () -> new byte [DATA_SZ]);
+    private final AtomicLong               framesRendered   = new AtomicLong ();
+    private final AtomicLong               framesDropped    = new AtomicLong ();
+    private final AtomicLong               framesSent       = new AtomicLong ();
 
     private Object                         sendLock         = new Object ();
-    private Object                         bufferUpdateLock = new Object ();
     private final ScheduledExecutorService sendExecutor     = Executors.newSingleThreadScheduledExecutor ();
 
 
     /**
-     * Connect to the USB port and claim the display interface.
+     * Connect to the USB port and claim the display interface. Uses the default maximum frame
+     * rate.
      *
      * @param host The controller host
      */
     public PushUsbDisplay (final IHost host)
+    {
+        this (host, DEFAULT_FPS);
+    }
+
+
+    /**
+     * Connect to the USB port and claim the display interface.
+     *
+     * @param host The controller host
+     * @param maxFrameRate The maximum number of frames per second to send to the display
+     */
+    public PushUsbDisplay (final IHost host, final int maxFrameRate)
     {
         this.host = host;
 
@@ -85,79 +122,140 @@ public class PushUsbDisplay
         this.headerBlock = host.createMemoryBlock (DISPLAY_HEADER.length);
         this.headerBlock.createByteBuffer ().put (DISPLAY_HEADER);
         this.imageBlock = host.createMemoryBlock (DATA_SZ);
+
+        final long period = 1000000L / Math.max (1, maxFrameRate);
+        this.sendExecutor.scheduleAtFixedRate (this::sendData, period, period, TimeUnit.MICROSECONDS);
     }
 
 
     /**
-     * Send the buffered image to the screen.
+     * Send the buffered image to the screen. The image is only handed over to the sender thread,
+     * which transfers the latest image with the maximum frame rate. Images which were not
+     * transferred before a newer one arrives are dropped. Must always be called from the same
+     * thread.
      *
      * @param image An image of size 960 x 160 pixel
      */
     public void send (final IBitmap image)
     {
-        // Copy to the buffer
-        synchronized (this.bufferUpdateLock)
-        {
-            image.encode ( (imageBuffer, width, height) -> {
+        this.framesRendered.incrementAndGet ();
+
+        // The lines are encoded directly into the buffer which is handed over. It is compared to
+        // the previously handed over buffer, which is not modified by the sender thread
+        final byte [] frame = this.frames.getWriteBuffer ();
+        this.isDirty = this.lastFrame == null;
 
-                int counter = 0;
-                final int padding = (DATA_SZ - height * width * 2) / height;
+        image.encode ( (imageBuffer, width, height) -> {
+
+            final int lineLength = width * 4;
+            if (this.pixelStore.length < lineLength)
+                this.pixelStore = new byte [lineLength];
+
+            for (int y = 0; y < height; y++)
+            {
+                // Read the whole line at once and convert it to RGB565, the padding at the end of
+                // the line stays empty
+                imageBuffer.get (this.pixelStore, 0, lineLength);
 
-                for (int y = 0; y < height; y++)
+                final int offset = y * LINE_SZ;
+                int counter = offset;
+                for (int x = 0; x < lineLength; x += 4)
                 {
-                    for (int x = 0; x < width; x++)
-                    {
-                        final int blue = imageBuffer.get ();
-                        final int green = imageBuffer.get ();
-                        final int red = imageBuffer.get ();
-                        imageBuffer.get (); // Drop unused Alpha
-
-                        final int pixel = sPixelFromRGB (red, green, blue);
-
-                        this.byteStore[counter] = (byte) (pixel & 0x00FF);
-                        this.byteStore[counter + 1] = (byte) ((pixel & 0xFF00) >> 8);
-
-                        counter += 2;
-                    }
-
-                    for (int x = 0; x < padding; x++)
-                    {
-                        this.byteStore[counter] = (byte) 0x00;
-                        counter++;
-                    }
+                    final int pixel = sPixelFromRGB (this.pixelStore[x + 2], this.pixelStore[x + 1], this.pixelStore[x]);
+                    frame[counter] = (byte) pixel;
+                    frame[counter + 1] = (byte) (pixel >> 8);
+                    counter += 2;
                 }
 
-                imageBuffer.rewind ();
-            });
-        }
+                if (!this.isDirty && !Arrays.equals (frame, offset, offset + LINE_SZ, this.lastFrame, offset, offset + LINE_SZ))
+                    this.isDirty = true;
+            }
 
-        synchronized (this.sendLock)
-        {
-            if (!this.sendExecutor.isShutdown ())
-                this.sendExecutor.submit (this::sendData);
-        }
+            imageBuffer.rewind ();
+        });
+
+        // Nothing to hand over if nothing has changed, the sender thread keeps the display alive
+        if (!this.isDirty)
+            return;
+
+        this.lastFrame = frame;
+        if (this.frames.publish ())
+            this.framesDropped.incrementAndGet ();
+    }
+
+
+    /**
+     * Get the number of frames which were rendered and handed to the display.
+     *
+     * @return The number of frames
+     */
+    public long getFramesRendered ()
+    {
+        return this.framesRendered.get ();
+    }
+
+
+    /**
+     * Get the number of changed frames which were replaced by a newer frame before they could be
+     * sent.
+     *
+     * @return The number of frames
+     */
+    public long getFramesDropped ()
+    {
+        return this.framesDropped.get ();
+    }
+
+
+    /**
+     * Get the number of frames which were transferred to the device.
+     *
+     * @return The number of frames
+     */
+    public long getFramesSent ()
+    {
+        return this.framesSent.get ();
     }
 
 
     private void sendData ()
     {
-        // Copy the data from the buffer to the USB block
-        synchronized (this.bufferUpdateLock)
+        // Copy the latest frame to the USB block. If there is no new frame re-send the previous
+        // one from time to time, since the display turns black if it does not receive a frame for
+        // 2 seconds
+        final byte [] frame = this.frames.take ();
+        final long now = System.currentTimeMillis ();
+        if (frame == null)
+        {
+            // Nothing to keep alive before the first frame was handed over
+            if (this.lastSend == 0 || now - this.lastSend < KEEP_ALIVE)
+                return;
+        }
+        else
         {
             final ByteBuffer buffer = this.imageBlock.createByteBuffer ();
             buffer.clear ();
-            for (int i = 0; i < DATA_SZ; i++)
-                buffer.put (this.byteStore[i]);
+            buffer.put (frame);
         }
+        this.lastSend = now;
 
-        // Send the data
+        // Send the data, the display always requires the full frame
         synchronized (this.sendLock)
         {
             if (this.usbDevice == null || this.usbEndpoint == null)
                 return;
 
-            this.usbEndpoint.send (this.headerBlock, TIMEOUT);
-            this.usbEndpoint.send (this.imageBlock, TIMEOUT);
+            try
+            {
+                this.usbEndpoint.send (this.headerBlock, TIMEOUT);
+                this.usbEndpoint.send (this.imageBlock, TIMEOUT);
+                this.framesSent.incrementAndGet ();
+            }
+            catch (final RuntimeException ex)
+            {
+                // Keep the periodic task alive
+                this.host.error ("Could not send to the USB display.", ex);
+            }
         }
     }
 
@@ -187,11 +285,6 @@ public class PushUsbDisplay
 
     private static int sPixelFromRGB (final int red, final int green, final int blue)
     {
-        int pixel = (blue & 0xF8) >> 3;
-        pixel <<= 6;
-        pixel += (green & 0xFC) >> 2;
-        pixel <<= 5;
-        pixel += (red & 0xF8) >> 3;
-        return pixel;
+        return (blue & 0xF8) << 8 | (green & 0xFC) << 3 | (red & 0xF8) >> 3;
     }
 }
@@ -134,6 +134,9 @@ public class SLControllerSetup extends AbstractControllerSetup<SLControlSurface,
     {
         final IMidiAccess midiAccess = this.factory.createMidiAccess ();
         final IMidiOutput output = midiAccess.createOutput ();
+        // The MkII drops messages when flooded, especially when connected via a USB hub
+        if (this.isMkII)
+            output.enableRateLimit (IMidiOutput.DIN_BYTES_PER_SECOND);
         final IMidiInput input = midiAccess.createInput (this.isMkII ? "Novation SL MkII (Drumpads)" : "Novation SL MkI (Drumpads)", "90????", "80????");
         final IMidiInput keyboardInput = midiAccess.createInput (1, this.isMkII ? "Novation SL MkII (Keyboard)" : "Novation SL MkI (Keyboard)", "80????", "90????", "B0????", "D0????", "E0????");
         final IHost hostProxy = this.model.getHost ();
@@ -9,6 +9,8 @@ import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.controller.hardware.IHwTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.MidiPriority;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.StringUtils;
 
 
@@ -32,8 +34,11 @@ public class SLDisplay extends AbstractTextDisplay
         3
     };
 
+    private static final byte [] SYSEX_LINE  = SysexBuilder.parseHex (SLControlSurface.SYSEX_HEADER + "02 01 00");
+
     private final IHwTextDisplay hwTextDisplay1;
     private final IHwTextDisplay hwTextDisplay2;
+    private final SysexBuilder   sysex       = new SysexBuilder ();
 
 
     /**
@@ -119,11 +124,7 @@ public class SLDisplay extends AbstractTextDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        final int length = text.length ();
-        final int [] array = new int [length];
-        for (int i = 0; i < length; i++)
-            array[i] = text.charAt (i);
-        this.output.sendSysex (SLControlSurface.SYSEX_HEADER + "02 01 00 " + uint7ToHex (ROW_MAP[row] + 1) + "04 " + StringUtils.toHexStr (array) + "00 F7");
+        this.sysex.start (SYSEX_LINE).add7Bit (ROW_MAP[row] + 1).addByte (0x04).addAscii (text).addByte (0x00).send (this.output, MidiPriority.DISPLAY);
     }
 
 
@@ -135,14 +136,6 @@ public class SLDisplay extends AbstractTextDisplay
     }
 
 
-    private static String uint7ToHex (final int x)
-    {
-        final int upper = x >> 4 & 0x7;
-        final int lower = x & 0xF;
-        return Integer.toString (upper, 16) + Integer.toString (lower, 16) + " ";
-    }
-
-
     /**
      * Get the 1st hardware display.
      *
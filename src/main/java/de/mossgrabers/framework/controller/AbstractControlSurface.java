@@ -186,8 +186,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
             final ButtonID buttonID = ButtonID.get (ButtonID.PAD1, i);
             final IHwButton pad = this.createButton (buttonID, "P " + (i + 1));
             pad.addLight (this.surfaceFactory.createLight (this.surfaceID, null, () -> this.padGrid.getLightInfo (note).getEncoded (), state -> this.padGrid.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, buttonID), pad));
-            final int [] translated = this.padGrid.translateToController (note);
-            pad.bind (this.input, BindType.NOTE, translated[0], translated[1]);
+            pad.bind (this.input, BindType.NOTE, this.padGrid.getControllerChannel (note), this.padGrid.getControllerNote (note));
             pad.bind ( (event, velocity) -> this.handleGridNote (event, note, velocity));
         }
     }
@@ -221,8 +220,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
             final int note = startNote + i;
 
             final IHwButton pad = this.getButton (ButtonID.get (ButtonID.PAD1, i));
-            final int [] translated = this.padGrid.translateToController (note);
-            pad.bind (this.input, BindType.NOTE, translated[0], translated[1]);
+            pad.bind (this.input, BindType.NOTE, this.padGrid.getControllerChannel (note), this.padGrid.getControllerNote (note));
         }
     }
 
@@ -678,6 +676,9 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void forceFlush ()
     {
+        if (this.output != null)
+            this.output.clearCache ();
+
         // Flush all text displays. No need for graphics displays since they are refreshed anyway on
         // an interval
         this.textDisplays.forEach (ITextDisplay::forceFlush);
@@ -710,6 +711,11 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
             this.updateViewControls ();
             this.updateGrid ();
             this.flushHardware ();
+
+            // Send the messages which were queued by the output cache, after all sub-classes
+            // have flushed their hardware
+            if (this.output != null)
+                this.output.flush ();
         }
         catch (final RuntimeException ex)
         {
@@ -734,6 +740,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     public void clearCache ()
     {
         this.surfaceFactory.clearCache ();
+        if (this.output != null)
+            this.output.clearCache ();
     }
 
 
@@ -743,6 +751,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     {
         this.internalShutdown ();
         this.flushHardware ();
+        if (this.output != null)
+            this.output.shutdown ();
     }
 
 
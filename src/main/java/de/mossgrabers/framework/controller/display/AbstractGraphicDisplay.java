@@ -17,6 +17,7 @@ import de.mossgrabers.framework.graphics.Align;
 import de.mossgrabers.framework.graphics.DefaultGraphicsInfo;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.IGraphicsConfiguration;
+import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IGraphicsInfo;
 import de.mossgrabers.framework.graphics.canvas.component.ChannelComponent;
@@ -35,8 +36,12 @@ import de.mossgrabers.framework.graphics.display.ModelInfo;
 import de.mossgrabers.framework.utils.Pair;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -85,6 +90,16 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     protected final IGraphicsDimensions    dimensions;
     private final IBitmap                  image;
 
+    /** The offscreen bitmaps of the columns, cached by the number of columns. */
+    private final Map<Integer, IBitmap []> tileCache                       = new HashMap<> ();
+    private IBitmap []                     tiles                           = new IBitmap [0];
+    private IComponent []                  tileComponents                  = new IComponent [0];
+    private boolean []                     tileChanged                     = new boolean [0];
+    private boolean []                     tileSeparatorChanged            = new boolean [0];
+    private boolean []                     tileOverlaps                    = new boolean [0];
+    private final ColorEx []               tileColors                      = new ColorEx [11];
+    private boolean                        tileAntialias;
+
     private IHwGraphicsDisplay             hardwareDisplay;
 
 
@@ -409,29 +424,29 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
 
     private void renderImage ()
     {
-        this.image.render (this.configuration.isAntialiasEnabled (), gc -> {
-            final int width = this.dimensions.getWidth ();
-            final int height = this.dimensions.getHeight ();
-            final double separatorSize = this.dimensions.getSeparatorSize ();
+        final int width = this.dimensions.getWidth ();
+        final int height = this.dimensions.getHeight ();
+        final ColorEx colorBorder = this.configuration.getColorBorder ();
+        final boolean isAntialiasEnabled = this.configuration.isAntialiasEnabled ();
+
+        final List<IComponent> elements = this.info.getComponents ();
+        final int size = elements.size ();
+        final int gridWidth = size == 0 ? 0 : width / size;
+        if (size > 0)
+            this.renderTiles (elements, gridWidth, height, colorBorder, isAntialiasEnabled);
+
+        this.image.render (isAntialiasEnabled, gc -> {
 
             // Clear display
-            final ColorEx colorBorder = this.configuration.getColorBorder ();
             gc.fillRectangle (0, 0, width, height, colorBorder);
 
-            final List<IComponent> elements = this.info.getComponents ();
-            final int size = elements.size ();
             if (size == 0)
                 return;
-            final int gridWidth = width / size;
-            final double paintWidth = gridWidth - separatorSize;
-            final double offsetX = separatorSize / 2.0;
 
-            final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
             for (int i = 0; i < size; i++)
             {
-                final IComponent component = elements.get (i);
-                if (component != null)
-                    component.draw (graphicsInfo.withBounds (i * gridWidth + offsetX, 0, paintWidth, height));
+                if (elements.get (i) != null)
+                    gc.drawBitmap (this.tiles[i], i * gridWidth, 0);
             }
 
             final String notification = this.info.getNotification ();
@@ -442,4 +457,182 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
             gc.drawTextInBounds (notification, 0, 0, width, height, Align.CENTER, colorText, colorBorder, height / 4.0);
         });
     }
+
+
+    /**
+     * Render the columns into their offscreen bitmaps. Only the columns whose component has changed
+     * since the last rendering are redrawn. Components can paint into the separators of their
+     * neighbours. If such a component changes only the separator strips of its neighbours are
+     * redrawn.
+     *
+     * @param elements The components of the columns
+     * @param gridWidth The width of a column
+     * @param height The height of a column
+     * @param colorBorder The background color
+     * @param isAntialiasEnabled True to enable anti aliasing
+     */
+    private void renderTiles (final List<IComponent> elements, final int gridWidth, final int height, final ColorEx colorBorder, final boolean isAntialiasEnabled)
+    {
+        final int size = elements.size ();
+        if (this.tiles.length != size)
+        {
+            this.tiles = this.tileCache.computeIfAbsent (Integer.valueOf (size), key -> {
+                final IBitmap [] bitmaps = new IBitmap [size];
+                for (int i = 0; i < size; i++)
+                    bitmaps[i] = this.host.createBitmap (gridWidth, height);
+                return bitmaps;
+            });
+            this.tileComponents = new IComponent [size];
+            this.tileChanged = new boolean [size];
+            this.tileSeparatorChanged = new boolean [size];
+            this.tileOverlaps = new boolean [size];
+        }
+
+        // Redraw everything if the colors or the anti aliasing have changed
+        if (this.hasStyleChanged ())
+            Arrays.fill (this.tileComponents, null);
+
+        for (int i = 0; i < size; i++)
+        {
+            final IComponent component = elements.get (i);
+            final boolean overlaps = component != null && component.overlapsSeparator ();
+            this.tileChanged[i] = !Objects.equals (component, this.tileComponents[i]);
+            // The separators of the neighbours need to be redrawn if the old or the new component
+            // paints into them
+            this.tileSeparatorChanged[i] = this.tileChanged[i] && (overlaps || this.tileOverlaps[i]);
+            this.tileComponents[i] = component;
+            this.tileOverlaps[i] = overlaps;
+        }
+
+        final double separatorSize = this.dimensions.getSeparatorSize ();
+        final double paintWidth = gridWidth - separatorSize;
+        final double offsetX = separatorSize / 2.0;
+        final double stripWidth = Math.ceil (offsetX);
+
+        for (int i = 0; i < size; i++)
+        {
+            final IComponent component = elements.get (i);
+            if (component == null)
+                continue;
+
+            final IComponent previous = i == 0 ? null : elements.get (i - 1);
+            final IComponent next = i == size - 1 ? null : elements.get (i + 1);
+
+            if (this.tileChanged[i])
+            {
+                this.tiles[i].render (isAntialiasEnabled, gc -> {
+                    gc.fillRectangle (0, 0, gridWidth, height, colorBorder);
+                    final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
+                    // Draw in the same order as on the full display, the neighbours only into the
+                    // separator strips of the column
+                    drawSeparator (gc, graphicsInfo, 0, stripWidth, height, previous, offsetX - gridWidth, paintWidth);
+                    component.draw (graphicsInfo.withBounds (offsetX, 0, paintWidth, height));
+                    drawSeparator (gc, graphicsInfo, gridWidth - stripWidth, stripWidth, height, next, offsetX + gridWidth, paintWidth);
+                });
+                continue;
+            }
+
+            // Only update the separator strips if a neighbour which paints into them has changed
+            final boolean isLeftChanged = i > 0 && this.tileSeparatorChanged[i - 1];
+            final boolean isRightChanged = i < size - 1 && this.tileSeparatorChanged[i + 1];
+            if (!isLeftChanged && !isRightChanged)
+                continue;
+
+            this.tiles[i].render (isAntialiasEnabled, gc -> {
+                final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
+                if (isLeftChanged)
+                {
+                    gc.fillRectangle (0, 0, stripWidth, height, colorBorder);
+                    drawSeparator (gc, graphicsInfo, 0, stripWidth, height, previous, offsetX - gridWidth, paintWidth);
+                    drawClipped (gc, graphicsInfo, 0, stripWidth, height, component, offsetX, paintWidth);
+                }
+                if (isRightChanged)
+                {
+                    final double stripLeft = gridWidth - stripWidth;
+                    gc.fillRectangle (stripLeft, 0, stripWidth, height, colorBorder);
+                    drawClipped (gc, graphicsInfo, stripLeft, stripWidth, height, component, offsetX, paintWidth);
+                    drawSeparator (gc, graphicsInfo, stripLeft, stripWidth, height, next, offsetX + gridWidth, paintWidth);
+                }
+            });
+        }
+    }
+
+
+    /**
+     * Draw the part of a neighbour component which overlaps a separator strip of a column. Does
+     * nothing if the component does not paint into the separators.
+     *
+     * @param gc The graphics context of the column
+     * @param graphicsInfo The graphics info of the column
+     * @param stripLeft The left edge of the strip
+     * @param stripWidth The width of the strip
+     * @param height The height of the column
+     * @param component The component, may be null
+     * @param left The left edge of the component relative to the column
+     * @param width The width of the component
+     */
+    private static void drawSeparator (final IGraphicsContext gc, final IGraphicsInfo graphicsInfo, final double stripLeft, final double stripWidth, final double height, final IComponent component, final double left, final double width)
+    {
+        if (component != null && component.overlapsSeparator ())
+            drawClipped (gc, graphicsInfo, stripLeft, stripWidth, height, component, left, width);
+    }
+
+
+    /**
+     * Draw the part of a component which lies in a strip of a column.
+     *
+     * @param gc The graphics context of the column
+     * @param graphicsInfo The graphics info of the column
+     * @param stripLeft The left edge of the strip
+     * @param stripWidth The width of the strip
+     * @param height The height of the column
+     * @param component The component
+     * @param left The left edge of the component relative to the column
+     * @param width The width of the component
+     */
+    private static void drawClipped (final IGraphicsContext gc, final IGraphicsInfo graphicsInfo, final double stripLeft, final double stripWidth, final double height, final IComponent component, final double left, final double width)
+    {
+        gc.setClip (stripLeft, 0, stripWidth, height);
+        component.draw (graphicsInfo.withBounds (left, 0, width, height));
+        gc.resetClip ();
+    }
+
+
+    /**
+     * Check if one of the colors or the anti aliasing setting has changed since the last call.
+     *
+     * @return True if changed
+     */
+    private boolean hasStyleChanged ()
+    {
+        final IGraphicsConfiguration c = this.configuration;
+        boolean changed = this.updateTileColor (0, c.getColorText ());
+        changed |= this.updateTileColor (1, c.getColorBackground ());
+        changed |= this.updateTileColor (2, c.getColorBackgroundDarker ());
+        changed |= this.updateTileColor (3, c.getColorBackgroundLighter ());
+        changed |= this.updateTileColor (4, c.getColorBorder ());
+        changed |= this.updateTileColor (5, c.getColorEdit ());
+        changed |= this.updateTileColor (6, c.getColorFader ());
+        changed |= this.updateTileColor (7, c.getColorVu ());
+        changed |= this.updateTileColor (8, c.getColorRecord ());
+        changed |= this.updateTileColor (9, c.getColorSolo ());
+        changed |= this.updateTileColor (10, c.getColorMute ());
+
+        final boolean isAntialiasEnabled = c.isAntialiasEnabled ();
+        if (isAntialiasEnabled != this.tileAntialias)
+        {
+            this.tileAntialias = isAntialiasEnabled;
+            changed = true;
+        }
+        return changed;
+    }
+
+
+    private boolean updateTileColor (final int index, final ColorEx color)
+    {
+        if (color.equals (this.tileColors[index]))
+            return false;
+        this.tileColors[index] = color;
+        return true;
+    }
 }
@@ -7,24 +7,22 @@ package de.mossgrabers.framework.controller.grid;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.TreeMap;
-
 
 /**
- * Implementation of a grid of pads with software simulated blinking pads.
+ * Implementation of a grid of pads with software simulated blinking pads. The pad changes are
+ * collected while drawing and sent to the controller on flush. All methods must be called from the
+ * flush thread of the surface.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public abstract class BlinkingPadGrid extends PadGridImpl
 {
-    protected static final int              BLINK_SPEED    = 600;
+    protected static final int       BLINK_SPEED    = 600;
 
-    protected final Map<Integer, LightInfo> blinkingLights = new HashMap<> ();
-    protected final Map<Integer, LightInfo> padInfos       = new TreeMap<> ();
-    protected boolean                       isBlink;
-    protected long                          updateTime     = System.currentTimeMillis ();
+    protected final PackedLightInfos blinkingLights = new PackedLightInfos ();
+    private final PackedLightInfos   padInfos       = new PackedLightInfos ();
+    protected boolean                isBlink;
+    protected long                   updateTime     = System.currentTimeMillis ();
 
 
     /**
@@ -59,28 +57,24 @@ public abstract class BlinkingPadGrid extends PadGridImpl
      */
     public void flush ()
     {
-        synchronized (this.padInfos)
-        {
-            this.updateController ();
-            this.padInfos.clear ();
-        }
+        this.updateController (this.padInfos);
+        this.padInfos.clear ();
     }
 
 
     /**
      * Send the changes incl. blinking pad changes to the controller.
+     *
+     * @param padInfos The infos of the pads which changed since the last update
      */
-    protected abstract void updateController ();
+    protected abstract void updateController (PackedLightInfos padInfos);
 
 
     /** {@inheritDoc} */
     @Override
     protected void sendNoteState (final int channel, final int note, final int color)
     {
-        synchronized (this.padInfos)
-        {
-            this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ()).setColor (color);
-        }
+        this.padInfos.setColor (note, color);
     }
 
 
@@ -88,12 +82,7 @@ public abstract class BlinkingPadGrid extends PadGridImpl
     @Override
     protected void sendBlinkState (final int channel, final int note, final int blinkColor, final boolean fast)
     {
-        synchronized (this.padInfos)
-        {
-            final LightInfo info = this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ());
-            info.setBlinkColor (blinkColor);
-            info.setFast (fast);
-        }
+        this.padInfos.setBlinkColor (note, blinkColor, fast);
     }
 
 
@@ -68,6 +68,27 @@ public interface IPadGrid extends ILightGuide
     int translateToGrid (int note);
 
 
+    /**
+     * Get the MIDI channel on the controller of a pad. The value is looked up in a table which is
+     * created from translateToController for the current layout of the grid.
+     *
+     * @param note The note of the pad
+     * @return The MIDI channel
+     */
+    int getControllerChannel (int note);
+
+
+    /**
+     * Get the MIDI note on the controller of a pad. The value is looked up in a table which is
+     * created from translateToController for the current layout of the grid.
+     *
+     * @param note The note of the pad
+     * @return The MIDI note or -1 if the pad is not available on the controller in the current
+     *         layout
+     */
+    int getControllerNote (int note);
+
+
     /**
      * Get the number the number of rows of the grid.
      *
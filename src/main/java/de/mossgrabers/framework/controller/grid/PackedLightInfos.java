@@ -0,0 +1,196 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.grid;
+
+/**
+ * The light infos of up to 128 pads, packed as one integer per note with the same encoding as
+ * {@link LightInfo#getEncoded()}: bits 0-6 contain the color, bits 8-14 the blink color and bit 16
+ * is set for fast blinking. The notes which have an info are marked in a bitmask, which allows to
+ * iterate over them in ascending order without any allocation. Not thread-safe.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class PackedLightInfos
+{
+    private static final int NUM_NOTES   = 128;
+    private static final int COLOR_MASK  = 0x7F;
+    private static final int BLINK_SHIFT = 8;
+    private static final int BLINK_MASK  = 0x7F << BLINK_SHIFT;
+    private static final int FAST_FLAG   = 1 << 16;
+
+    private final int []     infos       = new int [NUM_NOTES];
+    private final long []    marked      = new long [NUM_NOTES / 64];
+
+
+    /**
+     * Set the color of a pad. If the pad has no info yet, the blink color is set to 0.
+     *
+     * @param note The note of the pad (0-127)
+     * @param color The color
+     */
+    public void setColor (final int note, final int color)
+    {
+        final int info = this.mark (note) ? this.infos[note] & ~COLOR_MASK : 0;
+        this.infos[note] = info | color & COLOR_MASK;
+    }
+
+
+    /**
+     * Set the blink color of a pad. If the pad has no info yet, the color is set to 0.
+     *
+     * @param note The note of the pad (0-127)
+     * @param blinkColor The blink color
+     * @param fast True to blink fast
+     */
+    public void setBlinkColor (final int note, final int blinkColor, final boolean fast)
+    {
+        final int info = this.mark (note) ? this.infos[note] & COLOR_MASK : 0;
+        this.infos[note] = info | (blinkColor & COLOR_MASK) << BLINK_SHIFT | (fast ? FAST_FLAG : 0);
+    }
+
+
+    /**
+     * Set the packed info of a pad.
+     *
+     * @param note The note of the pad (0-127)
+     * @param info The packed info
+     */
+    public void set (final int note, final int info)
+    {
+        this.mark (note);
+        this.infos[note] = info;
+    }
+
+
+    /**
+     * Get the packed info of a pad.
+     *
+     * @param note The note of the pad (0-127)
+     * @return The packed info, 0 if the pad has no info
+     */
+    public int get (final int note)
+    {
+        return this.infos[note];
+    }
+
+
+    /**
+     * Remove the info of a pad.
+     *
+     * @param note The note of the pad (0-127)
+     */
+    public void remove (final int note)
+    {
+        this.marked[note >> 6] &= ~(1L << note);
+        this.infos[note] = 0;
+    }
+
+
+    /**
+     * Check if there is no info for any pad.
+     *
+     * @return True if empty
+     */
+    public boolean isEmpty ()
+    {
+        for (final long bits: this.marked)
+        {
+            if (bits != 0)
+                return false;
+        }
+        return true;
+    }
+
+
+    /**
+     * Get the next note which has an info. Use it for iteration:
+     * {@code for (int note = infos.next (0); note >= 0; note = infos.next (note + 1))}.
+     *
+     * @param note The note to start the search from (inclusive)
+     * @return The note or -1 if there is no further note with an info
+     */
+    public int next (final int note)
+    {
+        for (int i = note >> 6; i < this.marked.length && note < NUM_NOTES; i++)
+        {
+            long bits = this.marked[i];
+            if (i == note >> 6)
+                bits &= -1L << note;
+            if (bits != 0)
+                return i * 64 + Long.numberOfTrailingZeros (bits);
+        }
+        return -1;
+    }
+
+
+    /**
+     * Remove the infos of all pads.
+     */
+    public void clear ()
+    {
+        for (int i = 0; i < this.marked.length; i++)
+        {
+            long bits = this.marked[i];
+            while (bits != 0)
+            {
+                this.infos[i * 64 + Long.numberOfTrailingZeros (bits)] = 0;
+                bits &= bits - 1;
+            }
+            this.marked[i] = 0;
+        }
+    }
+
+
+    /**
+     * Get the color of a packed info.
+     *
+     * @param info The packed info
+     * @return The color
+     */
+    public static int getColor (final int info)
+    {
+        return info & COLOR_MASK;
+    }
+
+
+    /**
+     * Get the blink color of a packed info.
+     *
+     * @param info The packed info
+     * @return The blink color
+     */
+    public static int getBlinkColor (final int info)
+    {
+        return (info & BLINK_MASK) >> BLINK_SHIFT;
+    }
+
+
+    /**
+     * Get the blink speed of a packed info.
+     *
+     * @param info The packed info
+     * @return True if blinking fast
+     */
+    public static boolean isFast (final int info)
+    {
+        return (info & FAST_FLAG) != 0;
+    }
+
+
+    /**
+     * Mark a note as having an info.
+     *
+     * @param note The note
+     * @return True if it was already marked
+     */
+    private boolean mark (final int note)
+    {
+        final int index = note >> 6;
+        final long bit = 1L << note;
+        final boolean wasMarked = (this.marked[index] & bit) != 0;
+        this.marked[index] |= bit;
+        return wasMarked;
+    }
+}
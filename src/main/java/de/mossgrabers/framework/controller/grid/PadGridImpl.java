@@ -7,6 +7,8 @@ package de.mossgrabers.framework.controller.grid;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
+import java.util.Arrays;
+
 
 /**
  * Implementation of a grid of pads.
@@ -15,7 +17,9 @@ import de.mossgrabers.framework.daw.midi.IMidiOutput;
  */
 public class PadGridImpl implements IPadGrid
 {
-    protected static final int   NUM_NOTES = 128;
+    protected static final int   NUM_NOTES           = 128;
+
+    private static final int     UNKNOWN_TRANSLATION = Integer.MIN_VALUE;
 
     protected final IMidiOutput  output;
     protected final ColorManager colorManager;
@@ -27,6 +31,10 @@ public class PadGridImpl implements IPadGrid
     protected int                startNote;
     protected int                endNote;
 
+    // The channel (upper bits) and note (bits 0-7) on the controller for each note, null if it
+    // needs to be created
+    private volatile int []      controllerTranslation;
+
 
     /**
      * Constructor.
@@ -175,12 +183,14 @@ public class PadGridImpl implements IPadGrid
     public void sendState (final int note)
     {
         final LightInfo state = note < this.padStates.length ? this.padStates[note] : new LightInfo ();
-        final int [] translated = this.translateToController (note);
+        final int translated = this.getControllerTranslation (note);
+        final int channel = translated >> 8;
+        final int controllerNote = unpackNote (translated);
         final int color = state.getColor ();
-        this.sendNoteState (translated[0], translated[1], color < 0 ? 0 : color);
+        this.sendNoteState (channel, controllerNote, color < 0 ? 0 : color);
         final int blinkColor = state.getBlinkColor ();
         if (blinkColor > 0 && blinkColor < 128)
-            this.sendBlinkState (translated[0], translated[1], blinkColor, state.isFast ());
+            this.sendBlinkState (channel, controllerNote, blinkColor, state.isFast ());
     }
 
 
@@ -244,6 +254,72 @@ public class PadGridImpl implements IPadGrid
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getControllerChannel (final int note)
+    {
+        return this.getControllerTranslation (note) >> 8;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getControllerNote (final int note)
+    {
+        return unpackNote (this.getControllerTranslation (note));
+    }
+
+
+    /**
+     * Discard the translation table of the notes. Call it if the result of translateToController
+     * changes, e.g. since the layout of the grid changed. The table is created again on the next
+     * access. Must be called from the thread which sends the pad states.
+     */
+    protected void resetControllerTranslation ()
+    {
+        this.controllerTranslation = null;
+    }
+
+
+    /**
+     * Get the translation of a note from the table. The translation of a note is added to the table
+     * on its first access since the translation of sub-classes is not available in the constructor
+     * and might not support all notes.
+     *
+     * @param note The note
+     * @return The channel (upper bits) and note (bits 0-7, -1 is stored as 0xFF) on the controller
+     */
+    private int getControllerTranslation (final int note)
+    {
+        if (note < 0 || note >= NUM_NOTES)
+            return pack (this.translateToController (note));
+
+        int [] translation = this.controllerTranslation;
+        if (translation == null)
+        {
+            translation = new int [NUM_NOTES];
+            Arrays.fill (translation, UNKNOWN_TRANSLATION);
+            this.controllerTranslation = translation;
+        }
+        if (translation[note] == UNKNOWN_TRANSLATION)
+            translation[note] = pack (this.translateToController (note));
+        return translation[note];
+    }
+
+
+    private static int pack (final int [] translated)
+    {
+        return translated[0] << 8 | translated[1] & 0xFF;
+    }
+
+
+    private static int unpackNote (final int translation)
+    {
+        // Restores the sign of -1
+        return (byte) translation;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getRows ()
@@ -22,6 +22,16 @@ public interface INoteClip extends IClip, IPinnable
     int getNumRows ();
 
 
+    /**
+     * Get the revision of the displayed clip content. The revision increases whenever the note data,
+     * the loop or play range, the step length or the edit page changes. It can be used to cheaply
+     * detect changes of the clip.
+     *
+     * @return The revision
+     */
+    int getRevision ();
+
+
     /**
      * Get the index of the current step
      *
@@ -353,6 +363,17 @@ public interface INoteClip extends IClip, IPinnable
     int getUpperRowWithData (int channel);
 
 
+    /**
+     * Get the combined state of all rows (notes) at a step.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @return NOTE_START if at least one note starts at the step, NOTE_CONTINUE if at least one note
+     *         continues playing, otherwise NOTE_OFF
+     */
+    int getStepState (int channel, int step);
+
+
     /**
      * Scroll the clip view to the given page. Depends on the number of the steps of a page.
      *
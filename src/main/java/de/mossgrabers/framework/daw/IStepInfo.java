@@ -89,4 +89,12 @@ public interface IStepInfo
      * @return The gain of the note
      */
     double getGain ();
+
+
+    /**
+     * Create a copy of the data of the step which does not change when the step is updated.
+     *
+     * @return The copy
+     */
+    IStepInfo createCopy ();
 }
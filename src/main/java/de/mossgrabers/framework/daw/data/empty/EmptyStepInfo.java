@@ -97,4 +97,12 @@ public class EmptyStepInfo implements IStepInfo
     {
         return 0;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IStepInfo createCopy ()
+    {
+        return this;
+    }
 }
@@ -4,18 +4,41 @@
 
 package de.mossgrabers.framework.daw.midi;
 
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+
 /**
- * An abstract implementation for a midi output
+ * An abstract implementation for a midi output. Contains the optional output cache, which drops
+ * messages sending the last value again and queues the rest until the next flush, and the optional
+ * rate limiter. The lock of the cache is only taken if the cache is enabled.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public abstract class AbstractMidiOutputImpl implements IMidiOutput
 {
+    private static final int         CACHED_TYPES   = 3;
+
+    private final Object             cacheLock      = new Object ();
+    private volatile boolean         cacheEnabled   = false;
+    // The last sent values of notes, polyphonic aftertouch and CCs per channel, stored as value + 1,
+    // 0 means that no value was sent yet
+    private final byte []            lastValues     = new byte [CACHED_TYPES * 16 * 128];
+    // Queued messages, packed as status << 16 | data1 << 8 | data2
+    private int []                   queue          = new int [256];
+    private int                      queueSize      = 0;
+    private long                     sentMessages   = 0;
+    // The messages which were sent while the cache was disabled
+    private final LongAdder          directMessages = new LongAdder ();
+    private long                     suppressed     = 0;
+    private volatile MidiRateLimiter rateLimiter    = null;
+
+
     /** {@inheritDoc} */
     @Override
     public void sendCC (final int cc, final int value)
     {
-        this.sendMidiShort (0xB0, cc, value);
+        this.send (0xB0, cc, value);
     }
 
 
@@ -23,7 +46,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendCCEx (final int channel, final int cc, final int value)
     {
-        this.sendMidiShort (0xB0 + channel, cc, value);
+        this.send (0xB0 + channel, cc, value);
     }
 
 
@@ -31,7 +54,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendNote (final int note, final int velocity)
     {
-        this.sendMidiShort (0x90, note, velocity);
+        this.send (0x90, note, velocity);
     }
 
 
@@ -39,7 +62,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendNoteEx (final int channel, final int note, final int velocity)
     {
-        this.sendMidiShort (0x90 + channel, note, velocity);
+        this.send (0x90 + channel, note, velocity);
     }
 
 
@@ -47,7 +70,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendPolyphonicAftertouch (final int data1, final int data2)
     {
-        this.sendMidiShort (0xA0, data1, data2);
+        this.send (0xA0, data1, data2);
     }
 
 
@@ -55,7 +78,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendPolyphonicAftertouch (final int channel, final int data1, final int data2)
     {
-        this.sendMidiShort (0xA0 + channel, data1, data2);
+        this.send (0xA0 + channel, data1, data2);
     }
 
 
@@ -63,7 +86,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendChannelAftertouch (final int data1, final int data2)
     {
-        this.sendMidiShort (0xD0, data1, data2);
+        this.send (0xD0, data1, data2);
     }
 
 
@@ -71,7 +94,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendChannelAftertouch (final int channel, final int data1, final int data2)
     {
-        this.sendMidiShort (0xD0 + channel, data1, data2);
+        this.send (0xD0 + channel, data1, data2);
     }
 
 
@@ -79,7 +102,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendPitchbend (final int data1, final int data2)
     {
-        this.sendMidiShort (0xE0, data1, data2);
+        this.send (0xE0, data1, data2);
     }
 
 
@@ -87,7 +110,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendPitchbend (final int channel, final int data1, final int data2)
     {
-        this.sendMidiShort (0xE0 + channel, data1, data2);
+        this.send (0xE0 + channel, data1, data2);
     }
 
 
@@ -105,7 +128,227 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     {
         this.sendCCEx (channel, 0, bankMSB);
         this.sendCCEx (channel, 32, bankLSB);
-        this.sendMidiShort (0xC0 + channel, value, 0);
+        this.send (0xC0 + channel, value, 0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final byte [] data)
+    {
+        this.flush ();
+        final MidiRateLimiter limiter = this.rateLimiter;
+        if (limiter == null)
+            this.sendSysexBytes (data);
+        else
+            limiter.queueSysex (MidiPriority.FEEDBACK, data.clone ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final byte [] data, final int offset, final int length)
+    {
+        this.sendSysex (MidiPriority.FEEDBACK, data, offset, length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final MidiPriority priority, final byte [] data, final int offset, final int length)
+    {
+        this.flush ();
+        final byte [] message = Arrays.copyOfRange (data, offset, offset + length);
+        final MidiRateLimiter limiter = this.rateLimiter;
+        if (limiter == null)
+            this.sendSysexBytes (message);
+        else
+            limiter.queueSysex (priority, message);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final String data)
+    {
+        this.flush ();
+        final MidiRateLimiter limiter = this.rateLimiter;
+        if (limiter == null)
+            this.sendSysexHex (data);
+        else
+            limiter.queueSysex (MidiPriority.FEEDBACK, SysexBuilder.parseHex (data));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableRateLimit (final int bytesPerSecond)
+    {
+        this.flush ();
+        this.shutdownRateLimiter ();
+        if (bytesPerSecond > 0)
+            this.rateLimiter = new MidiRateLimiter (this, bytesPerSecond);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void shutdown ()
+    {
+        this.flush ();
+        this.shutdownRateLimiter ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableCache (final boolean enable)
+    {
+        synchronized (this.cacheLock)
+        {
+            if (this.cacheEnabled == enable)
+                return;
+            this.flush ();
+            this.clearCache ();
+            this.cacheEnabled = enable;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void flush ()
+    {
+        // The queue is flushed when the cache gets disabled, therefore it is empty if disabled
+        if (!this.cacheEnabled)
+            return;
+
+        synchronized (this.cacheLock)
+        {
+            for (int i = 0; i < this.queueSize; i++)
+            {
+                final int message = this.queue[i];
+                this.sendShortMessage (message >>> 16, message >> 8 & 0xFF, message & 0xFF);
+            }
+            this.sentMessages += this.queueSize;
+            this.queueSize = 0;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearCache ()
+    {
+        synchronized (this.cacheLock)
+        {
+            Arrays.fill (this.lastValues, (byte) 0);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getSentMessages ()
+    {
+        synchronized (this.cacheLock)
+        {
+            return this.sentMessages + this.directMessages.sum ();
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getSuppressedMessages ()
+    {
+        synchronized (this.cacheLock)
+        {
+            return this.suppressed;
+        }
+    }
+
+
+    /**
+     * Sends a short MIDI message. If the cache is enabled, the message is dropped if it sends the
+     * last value again, otherwise it is queued until the next flush.
+     *
+     * @param status the status byte of the MIDI message
+     * @param data1 the data1 part of the MIDI message
+     * @param data2 the data2 part of the MIDI message
+     */
+    private void send (final int status, final int data1, final int data2)
+    {
+        if (!this.cacheEnabled)
+        {
+            this.directMessages.increment ();
+            this.sendShortMessage (status, data1, data2);
+            return;
+        }
+
+        synchronized (this.cacheLock)
+        {
+            // The cache might have been disabled in the meantime
+            if (!this.cacheEnabled)
+            {
+                this.sentMessages++;
+                this.sendShortMessage (status, data1, data2);
+                return;
+            }
+
+            // Note on (0x9x), polyphonic aftertouch (0xAx) and CC (0xBx)
+            final int type = (status >> 4) - 9;
+            if (type >= 0 && type < CACHED_TYPES)
+            {
+                final int index = (type * 16 + (status & 0x0F)) * 128 + (data1 & 0x7F);
+                final byte value = (byte) (data2 + 1);
+                if (this.lastValues[index] == value)
+                {
+                    this.suppressed++;
+                    return;
+                }
+                this.lastValues[index] = value;
+            }
+            else if (type == -1)
+            {
+                // A note off (0x8x) invalidates the value of the note
+                this.lastValues[(status & 0x0F) * 128 + (data1 & 0x7F)] = 0;
+            }
+
+            if (this.queueSize == this.queue.length)
+                this.queue = Arrays.copyOf (this.queue, 2 * this.queueSize);
+            this.queue[this.queueSize++] = (status & 0xFF) << 16 | (data1 & 0xFF) << 8 | data2 & 0xFF;
+        }
+    }
+
+
+    /**
+     * Sends a short MIDI message directly or via the rate limiter.
+     *
+     * @param status the status byte of the MIDI message
+     * @param data1 the data1 part of the MIDI message
+     * @param data2 the data2 part of the MIDI message
+     */
+    private void sendShortMessage (final int status, final int data1, final int data2)
+    {
+        final MidiRateLimiter limiter = this.rateLimiter;
+        if (limiter == null)
+            this.sendMidiShort (status, data1, data2);
+        else
+            limiter.queueShort (status, data1, data2);
+    }
+
+
+    /**
+     * Stop the rate limiter, if any. Sends all messages which are still queued.
+     */
+    private void shutdownRateLimiter ()
+    {
+        final MidiRateLimiter limiter = this.rateLimiter;
+        if (limiter == null)
+            return;
+        this.rateLimiter = null;
+        limiter.shutdown ();
     }
 
 
@@ -117,4 +360,20 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
      * @param data2 the data2 part of the MIDI message
      */
     protected abstract void sendMidiShort (final int status, final int data1, final int data2);
+
+
+    /**
+     * Sends a system exclusive message to the hardware device.
+     *
+     * @param data The data to send
+     */
+    protected abstract void sendSysexBytes (final byte [] data);
+
+
+    /**
+     * Sends a system exclusive message to the hardware device.
+     *
+     * @param data The data to send, formatted as a hex string
+     */
+    protected abstract void sendSysexHex (final String data);
 }
\ No newline at end of file
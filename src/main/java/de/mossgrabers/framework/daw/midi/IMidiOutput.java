@@ -11,6 +11,10 @@ package de.mossgrabers.framework.daw.midi;
  */
 public interface IMidiOutput
 {
+    /** The number of bytes per second which can be sent over a classic MIDI (DIN) connection. */
+    int DIN_BYTES_PER_SECOND = 3125;
+
+
     /**
      * Send a midi CC to the output on midi channel 1.
      *
@@ -135,10 +139,91 @@ public interface IMidiOutput
     void sendSysex (byte [] data);
 
 
+    /**
+     * Send a system exclusive message to the output. The data is copied, therefore the array can be
+     * reused after the call.
+     *
+     * @param data The buffer which contains the message
+     * @param offset The index of the first byte of the message in the buffer
+     * @param length The number of bytes of the message
+     */
+    void sendSysex (byte [] data, int offset, int length);
+
+
+    /**
+     * Send a system exclusive message to the output. The data is copied, therefore the array can be
+     * reused after the call.
+     *
+     * @param priority The priority of the message, only relevant if the rate is limited
+     * @param data The buffer which contains the message
+     * @param offset The index of the first byte of the message in the buffer
+     * @param length The number of bytes of the message
+     */
+    void sendSysex (MidiPriority priority, byte [] data, int offset, int length);
+
+
     /**
      * Send a system exclusive message to the output.
      *
      * @param data The data to send, formatted as a hex string, e.g. F0 7E 7F 06 01 F7
      */
     void sendSysex (String data);
+
+
+    /**
+     * Enable or disable the output cache. If enabled, the last sent value of notes, polyphonic
+     * aftertouch and CCs is stored for each channel and a message which would send the same value
+     * again is dropped. All other messages are queued until flush is called. A system exclusive
+     * message flushes the queue before it is sent. Disabled by default.
+     *
+     * @param enable True to enable
+     */
+    void enableCache (boolean enable);
+
+
+    /**
+     * Send all queued messages. Does nothing if the cache is disabled.
+     */
+    void flush ();
+
+
+    /**
+     * Forget all sent values, therefore the next message for each note, aftertouch and CC is sent
+     * even if it has the same value.
+     */
+    void clearCache ();
+
+
+    /**
+     * Get the number of short messages sent to the output.
+     *
+     * @return The number of messages
+     */
+    long getSentMessages ();
+
+
+    /**
+     * Get the number of short messages which were dropped because the output cache contained
+     * already the same value.
+     *
+     * @return The number of messages
+     */
+    long getSuppressedMessages ();
+
+
+    /**
+     * Limit the number of bytes per second sent to the output. The messages are queued and sent by
+     * a separate thread with feedback messages first, then display and bulk messages. A queued
+     * short message is replaced by a newer one for the same note, CC, aftertouch or pitchbend.
+     * Disabled by default.
+     *
+     * @param bytesPerSecond The maximum number of bytes per second, 0 to disable the limit
+     */
+    void enableRateLimit (int bytesPerSecond);
+
+
+    /**
+     * Send all queued messages and stop the thread of the rate limiter, if enabled.
+     */
+    void shutdown ();
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+/**
+ * The priority of a MIDI message if the rate of the output is limited. Messages with a higher
+ * priority are sent first.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public enum MidiPriority
+{
+    /**
+     * Feedback like LEDs and device setup. All short messages use this priority and keep their order
+     * with the system exclusive messages of this priority.
+     */
+    FEEDBACK,
+    /** Text displays. */
+    DISPLAY,
+    /** Large transfers which are not time critical. */
+    BULK
+}
@@ -0,0 +1,334 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Limits the number of bytes per second sent to a MIDI output with a token bucket. The messages
+ * are queued in one lane per priority and sent by a separate thread, a lane is only served if all
+ * lanes with a higher priority are empty. A queued short message is replaced by a newer one for
+ * the same note, polyphonic aftertouch, CC, channel aftertouch or pitchbend, unless a system
+ * exclusive message of the feedback lane was queued in between.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+class MidiRateLimiter
+{
+    private static final int             SYSEX_MARKER  = -1;
+    private static final int             SHORT_SIZE    = 3;
+    private static final int             NO_KEY        = -1;
+    // Note (on and off), polyphonic aftertouch, CC, channel aftertouch and pitchbend
+    private static final int             KEY_TYPES     = 5;
+    private static final long            SHUTDOWN_WAIT = 100;
+
+    private final AbstractMidiOutputImpl output;
+    private final double                 bytesPerNanosecond;
+    private final double                 burstSize;
+    private final ExecutorService        sender        = Executors.newSingleThreadExecutor ();
+    private final Object                 lock          = new Object ();
+
+    // The feedback lane, short messages packed as status << 16 | data1 << 8 | data2 or a
+    // SYSEX_MARKER for the next message in feedbackSysex
+    private int []                       feedback      = new int [256];
+    private int                          feedbackHead  = 0;
+    private int                          feedbackTail  = 0;
+    // Messages before this position are not replaced since a sysex message follows them
+    private int                          barrier       = 0;
+    // The position + 1 of the latest queued message for each key, 0 if none is queued
+    private final int []                 positions     = new int [KEY_TYPES * 16 * 128];
+    private final Deque<byte []>         feedbackSysex = new ArrayDeque<> ();
+    private final Deque<byte []>         displaySysex  = new ArrayDeque<> ();
+    private final Deque<byte []>         bulkSysex     = new ArrayDeque<> ();
+    private double                       tokens;
+    private long                         lastRefill;
+
+
+    /**
+     * Constructor. Starts the sender thread.
+     *
+     * @param output The output to which the messages are sent
+     * @param bytesPerSecond The maximum number of bytes to send per second
+     */
+    MidiRateLimiter (final AbstractMidiOutputImpl output, final int bytesPerSecond)
+    {
+        this.output = output;
+        this.bytesPerNanosecond = bytesPerSecond / 1000000000.0;
+        // Allow a burst of up to 50ms
+        this.burstSize = Math.max (SHORT_SIZE, bytesPerSecond / 20.0);
+        this.tokens = this.burstSize;
+        this.lastRefill = System.nanoTime ();
+
+        this.sender.execute (this::sendMessages);
+    }
+
+
+    /**
+     * Queue a short message in the feedback lane.
+     *
+     * @param status the status byte of the MIDI message
+     * @param data1 the data1 part of the MIDI message
+     * @param data2 the data2 part of the MIDI message
+     */
+    void queueShort (final int status, final int data1, final int data2)
+    {
+        final int message = (status & 0xFF) << 16 | (data1 & 0xFF) << 8 | data2 & 0xFF;
+        final int key = getKey (message);
+
+        synchronized (this.lock)
+        {
+            if (key != NO_KEY)
+            {
+                final int position = this.positions[key] - 1;
+                if (position >= this.barrier)
+                {
+                    this.feedback[position] = message;
+                    return;
+                }
+            }
+
+            this.addFeedback (message);
+            if (key != NO_KEY)
+                this.positions[key] = this.feedbackTail;
+            this.lock.notifyAll ();
+        }
+    }
+
+
+    /**
+     * Queue a system exclusive message in the lane of its priority.
+     *
+     * @param priority The priority
+     * @param data The message, must not be modified after the call
+     */
+    void queueSysex (final MidiPriority priority, final byte [] data)
+    {
+        synchronized (this.lock)
+        {
+            switch (priority)
+            {
+                case DISPLAY:
+                    this.displaySysex.add (data);
+                    break;
+                case BULK:
+                    this.bulkSysex.add (data);
+                    break;
+                default:
+                    this.addFeedback (SYSEX_MARKER);
+                    this.feedbackSysex.add (data);
+                    this.barrier = this.feedbackTail;
+                    break;
+            }
+            this.lock.notifyAll ();
+        }
+    }
+
+
+    /**
+     * Stop the sender thread and send all queued messages without a limit.
+     */
+    void shutdown ()
+    {
+        this.sender.shutdownNow ();
+        try
+        {
+            this.sender.awaitTermination (SHUTDOWN_WAIT, TimeUnit.MILLISECONDS);
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+        }
+
+        synchronized (this.lock)
+        {
+            while (this.getNextSize () > 0)
+                this.sendNext ();
+        }
+    }
+
+
+    /**
+     * The loop of the sender thread. Waits until a message is queued and enough tokens are
+     * available to send it.
+     */
+    private void sendMessages ()
+    {
+        while (!Thread.currentThread ().isInterrupted ())
+        {
+            synchronized (this.lock)
+            {
+                try
+                {
+                    if (!this.waitForTokens ())
+                        continue;
+                }
+                catch (final InterruptedException ex)
+                {
+                    Thread.currentThread ().interrupt ();
+                    return;
+                }
+                this.sendNext ();
+            }
+        }
+    }
+
+
+    /**
+     * Wait until a message is queued and refill the tokens.
+     *
+     * @return True if there are enough tokens to send the next message, the tokens for it are
+     *         consumed in that case
+     * @throws InterruptedException The thread was interrupted while waiting
+     */
+    private boolean waitForTokens () throws InterruptedException
+    {
+        final int size = this.getNextSize ();
+        if (size == 0)
+        {
+            this.lock.wait ();
+            return false;
+        }
+
+        final long now = System.nanoTime ();
+        this.tokens = Math.min (this.burstSize, this.tokens + (now - this.lastRefill) * this.bytesPerNanosecond);
+        this.lastRefill = now;
+
+        // Large messages are sent with a full bucket and leave a debt
+        final double required = Math.min (size, this.burstSize);
+        if (this.tokens < required)
+        {
+            final long waitNanos = (long) ((required - this.tokens) / this.bytesPerNanosecond) + 1;
+            this.lock.wait (waitNanos / 1000000, (int) (waitNanos % 1000000));
+            return false;
+        }
+
+        this.tokens -= size;
+        return true;
+    }
+
+
+    /**
+     * Get the size of the next message to send.
+     *
+     * @return The number of bytes, 0 if no message is queued
+     */
+    private int getNextSize ()
+    {
+        if (this.feedbackHead < this.feedbackTail)
+            return this.feedback[this.feedbackHead] == SYSEX_MARKER ? this.feedbackSysex.getFirst ().length : SHORT_SIZE;
+        if (!this.displaySysex.isEmpty ())
+            return this.displaySysex.getFirst ().length;
+        if (!this.bulkSysex.isEmpty ())
+            return this.bulkSysex.getFirst ().length;
+        return 0;
+    }
+
+
+    /**
+     * Remove the next message from its lane and send it. The lock must be held and a message must
+     * be queued. The message is sent while holding the lock to keep the order when the limiter is
+     * shutdown.
+     */
+    private void sendNext ()
+    {
+        if (this.feedbackHead == this.feedbackTail)
+        {
+            this.output.sendSysexBytes (this.displaySysex.isEmpty () ? this.bulkSysex.removeFirst () : this.displaySysex.removeFirst ());
+            return;
+        }
+
+        final int message = this.feedback[this.feedbackHead];
+        final int key = getKey (message);
+        if (key != NO_KEY && this.positions[key] == this.feedbackHead + 1)
+            this.positions[key] = 0;
+        this.feedbackHead++;
+        if (this.feedbackHead == this.feedbackTail)
+        {
+            this.feedbackHead = 0;
+            this.feedbackTail = 0;
+            this.barrier = 0;
+        }
+
+        if (message == SYSEX_MARKER)
+            this.output.sendSysexBytes (this.feedbackSysex.removeFirst ());
+        else
+            this.output.sendMidiShort (message >>> 16, message >> 8 & 0xFF, message & 0xFF);
+    }
+
+
+    /**
+     * Add a message to the end of the feedback lane. Moves the queued messages to the start of the
+     * buffer or grows it if the end is reached.
+     *
+     * @param message The packed message or the sysex marker
+     */
+    private void addFeedback (final int message)
+    {
+        if (this.feedbackTail == this.feedback.length)
+        {
+            final int offset = this.feedbackHead;
+            if (offset == 0)
+                this.feedback = Arrays.copyOf (this.feedback, 2 * this.feedback.length);
+            else
+            {
+                System.arraycopy (this.feedback, offset, this.feedback, 0, this.feedbackTail - offset);
+                this.feedbackHead = 0;
+                this.feedbackTail -= offset;
+                this.barrier = Math.max (0, this.barrier - offset);
+                for (int i = 0; i < this.feedbackTail; i++)
+                {
+                    final int key = getKey (this.feedback[i]);
+                    if (key != NO_KEY && this.positions[key] == i + offset + 1)
+                        this.positions[key] = i + 1;
+                }
+            }
+        }
+        this.feedback[this.feedbackTail++] = message;
+    }
+
+
+    /**
+     * Get the key of a message which is used to find a queued message which is replaced by it.
+     *
+     * @param message The packed message
+     * @return The key or NO_KEY if the message is never replaced
+     */
+    private static int getKey (final int message)
+    {
+        if (message == SYSEX_MARKER)
+            return NO_KEY;
+
+        final int status = message >>> 16;
+        final int type;
+        switch (status >> 4)
+        {
+            // Note off and note on
+            case 0x8:
+            case 0x9:
+                type = 0;
+                break;
+            case 0xA:
+                type = 1;
+                break;
+            case 0xB:
+                type = 2;
+                break;
+            // Channel aftertouch and pitchbend have only one value per channel
+            case 0xD:
+                return (3 * 16 + (status & 0x0F)) * 128;
+            case 0xE:
+                return (4 * 16 + (status & 0x0F)) * 128;
+            default:
+                return NO_KEY;
+        }
+        return (type * 16 + (status & 0x0F)) * 128 + (message >> 8 & 0x7F);
+    }
+}
@@ -0,0 +1,214 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.util.Arrays;
+
+
+/**
+ * Builds MIDI system exclusive messages directly as bytes. Formatting the message as a hex string,
+ * which needs to be parsed again before sending, is not necessary. The buffer grows as needed and
+ * is reused for all following messages, therefore keep one builder per sender. The builder is not
+ * thread-safe.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SysexBuilder
+{
+    private static final int SYSEX_END = 0xF7;
+
+    private byte []          data;
+    private int              length    = 0;
+
+
+    /**
+     * Constructor.
+     */
+    public SysexBuilder ()
+    {
+        this (128);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The initial size of the buffer
+     */
+    public SysexBuilder (final int capacity)
+    {
+        this.data = new byte [Math.max (1, capacity)];
+    }
+
+
+    /**
+     * Start a new message. The content of the previous message is discarded.
+     *
+     * @param header The header of the message including the start byte (F0)
+     * @return The builder
+     */
+    public SysexBuilder start (final byte [] header)
+    {
+        this.length = 0;
+        return this.addBytes (header);
+    }
+
+
+    /**
+     * Add a byte.
+     *
+     * @param value The value of the byte (0-255)
+     * @return The builder
+     */
+    public SysexBuilder addByte (final int value)
+    {
+        if (this.length == this.data.length)
+            this.data = Arrays.copyOf (this.data, 2 * this.length);
+        this.data[this.length++] = (byte) value;
+        return this;
+    }
+
+
+    /**
+     * Add a data byte. The value is limited to 7 bit.
+     *
+     * @param value The value (0-127)
+     * @return The builder
+     */
+    public SysexBuilder add7Bit (final int value)
+    {
+        return this.addByte (value & 0x7F);
+    }
+
+
+    /**
+     * Add several bytes.
+     *
+     * @param values The bytes
+     * @return The builder
+     */
+    public SysexBuilder addBytes (final byte [] values)
+    {
+        this.ensureCapacity (values.length);
+        System.arraycopy (values, 0, this.data, this.length, values.length);
+        this.length += values.length;
+        return this;
+    }
+
+
+    /**
+     * Add several bytes.
+     *
+     * @param values The values of the bytes (0-255)
+     * @return The builder
+     */
+    public SysexBuilder addBytes (final int [] values)
+    {
+        this.ensureCapacity (values.length);
+        for (final int value: values)
+            this.data[this.length++] = (byte) value;
+        return this;
+    }
+
+
+    /**
+     * Add the characters of a text. Characters which are not ASCII are replaced by a question
+     * mark.
+     *
+     * @param text The text
+     * @return The builder
+     */
+    public SysexBuilder addAscii (final String text)
+    {
+        final int size = text.length ();
+        this.ensureCapacity (size);
+        for (int i = 0; i < size; i++)
+        {
+            final char c = text.charAt (i);
+            this.data[this.length++] = (byte) (c < 128 ? c : '?');
+        }
+        return this;
+    }
+
+
+    /**
+     * Overwrite a byte which was added before, e.g. a length field which is only known after the
+     * data was added.
+     *
+     * @param index The index of the byte in the message
+     * @param value The value of the byte (0-255)
+     * @return The builder
+     */
+    public SysexBuilder setByte (final int index, final int value)
+    {
+        if (index >= this.length)
+            throw new IndexOutOfBoundsException ("Index: " + index + ", Length: " + this.length);
+        this.data[index] = (byte) value;
+        return this;
+    }
+
+
+    /**
+     * Get the number of bytes of the message.
+     *
+     * @return The number of bytes
+     */
+    public int getLength ()
+    {
+        return this.length;
+    }
+
+
+    /**
+     * Add the end byte (F7) and send the message.
+     *
+     * @param output The output to send the message to
+     */
+    public void send (final IMidiOutput output)
+    {
+        this.addByte (SYSEX_END);
+        output.sendSysex (this.data, 0, this.length);
+    }
+
+
+    /**
+     * Add the end byte (F7) and send the message.
+     *
+     * @param output The output to send the message to
+     * @param priority The priority of the message, only relevant if the rate of the output is
+     *            limited
+     */
+    public void send (final IMidiOutput output, final MidiPriority priority)
+    {
+        this.addByte (SYSEX_END);
+        output.sendSysex (priority, this.data, 0, this.length);
+    }
+
+
+    /**
+     * Parse bytes formatted as hex values, e.g. a constant header. The values may be separated by
+     * spaces.
+     *
+     * @param hex The formatted bytes, e.g. "F0 00 20 29"
+     * @return The bytes
+     */
+    public static byte [] parseHex (final String hex)
+    {
+        final String digits = hex.replace (" ", "");
+        final int size = digits.length () / 2;
+        final byte [] result = new byte [size];
+        for (int i = 0; i < size; i++)
+            result[i] = (byte) Integer.parseInt (digits.substring (2 * i, 2 * i + 2), 16);
+        return result;
+    }
+
+
+    private void ensureCapacity (final int additional)
+    {
+        final int required = this.length + additional;
+        if (required > this.data.length)
+            this.data = Arrays.copyOf (this.data, Math.max (required, 2 * this.data.length));
+    }
+}
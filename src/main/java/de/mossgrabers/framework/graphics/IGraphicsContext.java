@@ -187,6 +187,16 @@ public interface IGraphicsContext
     void drawImage (IImage image, double x, double y);
 
 
+    /**
+     * Draw the content of a bitmap.
+     *
+     * @param bitmap The bitmap to draw
+     * @param x The X position of where to draw the bitmap
+     * @param y The Y position of where to draw the bitmap
+     */
+    void drawBitmap (IBitmap bitmap, double x, double y);
+
+
     /**
      * Draw an image masked by a color.
      *
@@ -210,6 +220,23 @@ public interface IGraphicsContext
     void drawLine (double x1, double y1, double x2, double y2, ColorEx lineColor);
 
 
+    /**
+     * Restrict all following drawing operations to a rectangle. Replaces a previously set clip.
+     *
+     * @param x The X position of the clip rectangle
+     * @param y The Y position of the clip rectangle
+     * @param width The width of the clip rectangle
+     * @param height The height of the clip rectangle
+     */
+    void setClip (double x, double y, double width, double height);
+
+
+    /**
+     * Remove the clip rectangle which was set with setClip.
+     */
+    void resetClip ();
+
+
     /**
      * Calculates the maximum height of a text which needs to fit into a width.
      *
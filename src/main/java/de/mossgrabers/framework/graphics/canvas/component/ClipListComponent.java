@@ -134,6 +134,14 @@ public class ClipListComponent implements IComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean overlapsSeparator ()
+    {
+        return false;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int hashCode ()
@@ -20,4 +20,12 @@ public interface IComponent
      * @param info All necessary information to draw the component
      */
     void draw (final IGraphicsInfo info);
+
+
+    /**
+     * Does the component paint into the separators left or right of its bounds?
+     *
+     * @return True if the component paints outside of its horizontal bounds
+     */
+    boolean overlapsSeparator ();
 }
@@ -238,6 +238,14 @@ public class LabelComponent implements IComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean overlapsSeparator ()
+    {
+        return this.layout == LabelLayout.SMALL_HEADER;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int hashCode ()
@@ -70,6 +70,14 @@ public class ListComponent implements IComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean overlapsSeparator ()
+    {
+        return false;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int hashCode ()
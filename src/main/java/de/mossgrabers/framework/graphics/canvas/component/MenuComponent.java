@@ -72,6 +72,14 @@ public class MenuComponent implements IComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean overlapsSeparator ()
+    {
+        return this.header.overlapsSeparator () || this.footer.overlapsSeparator ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int hashCode ()
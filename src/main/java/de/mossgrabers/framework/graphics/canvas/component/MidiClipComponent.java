@@ -23,6 +23,9 @@ public class MidiClipComponent implements IComponent
 {
     private final INoteClip clip;
     private int             quartersPerMeasure;
+    private final int       revision;
+    private final int       currentStep;
+    private final ColorEx   color;
 
 
     /**
@@ -35,6 +38,11 @@ public class MidiClipComponent implements IComponent
     {
         this.clip = clip;
         this.quartersPerMeasure = quartersPerMeasure;
+
+        // Snapshot the state which is relevant for change detection
+        this.revision = clip.getRevision ();
+        this.currentStep = clip.getCurrentStep ();
+        this.color = clip.getColor ();
     }
 
 
@@ -178,4 +186,46 @@ public class MidiClipComponent implements IComponent
         if (playStep >= 0)
             gc.fillRectangle (left + playStep * stepWidth - 1, 0, 3, height, measureTextColor);
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean overlapsSeparator ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + System.identityHashCode (this.clip);
+        result = prime * result + this.quartersPerMeasure;
+        result = prime * result + this.revision;
+        result = prime * result + this.currentStep;
+        result = prime * result + (this.color == null ? 0 : this.color.hashCode ());
+        return result;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (this == obj)
+            return true;
+        if (obj == null || this.getClass () != obj.getClass ())
+            return false;
+        final MidiClipComponent other = (MidiClipComponent) obj;
+        if (this.clip != other.clip || this.quartersPerMeasure != other.quartersPerMeasure)
+            return false;
+        if (this.revision != other.revision || this.currentStep != other.currentStep)
+            return false;
+        if (this.color == null)
+            return other.color == null;
+        return this.color.equals (other.color);
+    }
 }
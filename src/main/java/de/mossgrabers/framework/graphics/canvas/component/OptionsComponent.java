@@ -94,6 +94,14 @@ public class OptionsComponent implements IComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean overlapsSeparator ()
+    {
+        return this.header.overlapsSeparator () || this.footer.overlapsSeparator ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int hashCode ()
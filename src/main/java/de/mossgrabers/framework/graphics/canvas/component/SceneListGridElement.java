@@ -89,6 +89,14 @@ public class SceneListGridElement implements IComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean overlapsSeparator ()
+    {
+        return false;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int hashCode ()
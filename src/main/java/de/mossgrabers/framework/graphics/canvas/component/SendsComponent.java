@@ -153,6 +153,14 @@ public class SendsComponent extends ChannelSelectComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean overlapsSeparator ()
+    {
+        return this.isExMode || super.overlapsSeparator ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int hashCode ()
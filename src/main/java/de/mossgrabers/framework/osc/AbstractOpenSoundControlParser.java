@@ -71,12 +71,11 @@ public abstract class AbstractOpenSoundControlParser implements IOpenSoundContro
             return;
 
         final StringBuilder sb = new StringBuilder ("Receiving: ").append (address).append (" [ ");
-        final Object [] values = message.getValues ();
-        for (int i = 0; i < values.length; i++)
+        for (int i = 0; i < message.size (); i++)
         {
             if (i > 0)
                 sb.append (", ");
-            sb.append (values[i]);
+            sb.append (message.getValue (i));
         }
         sb.append (" ]");
         this.model.getHost ().println (sb.toString ());
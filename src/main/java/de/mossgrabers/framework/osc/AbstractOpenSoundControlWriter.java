@@ -10,27 +10,70 @@ import de.mossgrabers.framework.utils.StringUtils;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 
 /**
- * Base class for sending OSC messages to an OSC server.
+ * Base class for sending OSC messages to OSC servers. The latest value of each address is cached.
+ * All clients are updated from this cache. A client which cannot keep up is skipped and catches up
+ * on all values which changed in the meantime as soon as it is ready again. Missed values are sent
+ * in chunks to not flood the client. A client which requests a refresh with a version receives the
+ * version of the flush which completes the catch up with the address /version. It can send it back
+ * with the next refresh to receive only the values which changed afterwards. Clients can restrict
+ * the addresses they receive with subscription patterns.
+ *
+ * The values must be sent from the flush thread. Clients can be added and changed from any thread,
+ * the changes are applied with the next call of startFlush.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public abstract class AbstractOpenSoundControlWriter implements IOpenSoundControlWriter
 {
-    protected final IHost                          host;
-    protected final IModel                         model;
-    protected final IOpenSoundControlConfiguration configuration;
+    private static final byte                       TYPE_NONE       = 0;
+    private static final byte                       TYPE_INTEGER    = 1;
+    private static final byte                       TYPE_FLOAT      = 2;
+    private static final byte                       TYPE_COLOR      = 3;
+    private static final byte                       TYPE_OBJECT     = 4;
+
+    /** The maximum number of missed values sent to a client with one flush. */
+    private static final int                        MAX_CATCH_UP    = 256;
+    private static final String                     VERSION_ADDRESS = "/version";
+
+    protected final IHost                           host;
+    protected final IModel                          model;
+    protected final IOpenSoundControlConfiguration  configuration;
+
+    protected final OpenSoundControlAddressRegistry addressRegistry = new OpenSoundControlAddressRegistry ();
+
+    // The last sent values indexed by the ID of their address. Integers, booleans, floats (as their
+    // bits) and colors (packed RGB) are stored in the primitive array, all other values as objects.
+    private byte []                                 cacheTypes      = new byte [0];
+    private int []                                  cachePrimitives = new int [0];
+    private Object []                               cacheObjects    = new Object [0];
+    // The flush version in which a value changed last and the message created from it
+    private long []                                 cacheVersions   = new long [0];
+    private IOpenSoundControlMessage []             cacheMessages   = new IOpenSoundControlMessage [0];
+
+    // The version of the values collected for the next flush and the IDs which changed
+    private long                                    version         = 1;
+    private int []                                  changedIds      = new int [256];
+    private int                                     changedCount    = 0;
+
+    private final List<OpenSoundControlSubscriber>  subscribers     = new CopyOnWriteArrayList<> ();
+    private final List<IOpenSoundControlMessage>    bundle          = new ArrayList<> ();
+    private final OpenSoundControlMessageBuilder    messageBuilder  = new OpenSoundControlMessageBuilder ();
 
-    protected final IOpenSoundControlClient        oscClient;
-    protected final Map<String, Object>            oldValues = new HashMap<> ();
+    // Caches for each address ID if any client subscribed to the address or one of its children
+    private boolean                                 hasFilters      = false;
+    private byte []                                 relevance       = new byte [0];
 
-    private final List<IOpenSoundControlMessage>   messages  = new ArrayList<> ();
+    // Client changes which are applied by the flush thread
+    private volatile boolean                        clearRequested  = false;
+    private volatile boolean                        filtersChanged  = false;
 
 
     /**
@@ -38,18 +81,169 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      *
      * @param host The host
      * @param model The model
-     * @param oscClient The OSC client to write to
      * @param configuration The OSC configuration
      */
-    protected AbstractOpenSoundControlWriter (final IHost host, final IModel model, final IOpenSoundControlClient oscClient, final IOpenSoundControlConfiguration configuration)
+    protected AbstractOpenSoundControlWriter (final IHost host, final IModel model, final IOpenSoundControlConfiguration configuration)
     {
         this.host = host;
         this.model = model;
-        this.oscClient = oscClient;
         this.configuration = configuration;
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addClient (final String id, final IOpenSoundControlClient client)
+    {
+        synchronized (this.bundle)
+        {
+            this.removeClient (id);
+
+            // Modules are not flushed without a client, start over from the current state
+            if (this.subscribers.isEmpty ())
+                this.clearRequested = true;
+
+            this.subscribers.add (new OpenSoundControlSubscriber (id, client));
+            this.filtersChanged = true;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void removeClient (final String id)
+    {
+        synchronized (this.bundle)
+        {
+            for (final OpenSoundControlSubscriber subscriber: this.subscribers)
+            {
+                if (subscriber.getId ().equals (id))
+                {
+                    this.subscribers.remove (subscriber);
+                    subscriber.getClient ().close ();
+                }
+            }
+            this.filtersChanged = true;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasClient (final String id)
+    {
+        return this.getSubscriber (id) != null;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSubscriptions (final String id, final Collection<String> patterns)
+    {
+        synchronized (this.bundle)
+        {
+            final OpenSoundControlSubscriber subscriber = this.getSubscriber (id);
+            if (subscriber == null)
+                return;
+            subscriber.setFilter (new OpenSoundControlFilter (patterns));
+            // Send all cached values which are now subscribed
+            subscriber.startCatchUp (0);
+            this.filtersChanged = true;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void refresh (final long version)
+    {
+        synchronized (this.bundle)
+        {
+            // Unknown versions (e.g. from before a restart) require the full state
+            final long start = version < 0 || version >= this.version ? 0 : version;
+            for (final OpenSoundControlSubscriber subscriber: this.subscribers)
+            {
+                subscriber.startCatchUp (start);
+                if (version >= 0)
+                    subscriber.setVersionRequested (true);
+            }
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSubscribed (final OpenSoundControlAddress address)
+    {
+        if (!this.hasFilters)
+            return true;
+
+        final int id = address.getId ();
+        if (id >= this.relevance.length)
+            this.relevance = Arrays.copyOf (this.relevance, Math.max (id + 1, this.addressRegistry.size ()));
+        if (this.relevance[id] == 0)
+            this.relevance[id] = this.isRelevant (address.getAddress ()) ? (byte) 1 : (byte) 2;
+        return this.relevance[id] == 1;
+    }
+
+
+    private boolean isRelevant (final String address)
+    {
+        for (final OpenSoundControlSubscriber subscriber: this.subscribers)
+        {
+            final OpenSoundControlFilter filter = subscriber.getFilter ();
+            if (filter == null || filter.isRelevant (address))
+                return true;
+        }
+        return false;
+    }
+
+
+    private void updateFilters ()
+    {
+        boolean filtered = !this.subscribers.isEmpty ();
+        for (final OpenSoundControlSubscriber subscriber: this.subscribers)
+        {
+            if (subscriber.getFilter () == null)
+                filtered = false;
+        }
+        this.hasFilters = filtered;
+        this.relevance = new byte [0];
+    }
+
+
+    private OpenSoundControlSubscriber getSubscriber (final String id)
+    {
+        for (final OpenSoundControlSubscriber subscriber: this.subscribers)
+        {
+            if (subscriber.getId ().equals (id))
+                return subscriber;
+        }
+        return null;
+    }
+
+
+    /**
+     * Apply the changes of the clients since the last flush. Must be called from the flush thread
+     * before the values for the next flush are collected.
+     */
+    public void startFlush ()
+    {
+        // Reset the flags first, changes which happen in the meantime are applied with the next
+        // flush
+        if (this.clearRequested)
+        {
+            this.clearRequested = false;
+            this.clearCache ();
+        }
+        if (this.filtersChanged)
+        {
+            this.filtersChanged = false;
+            this.updateFilters ();
+        }
+    }
+
+
     /**
      * Send all collected messages.
      */
@@ -60,36 +254,108 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
 
 
     /**
-     * Send all collected messages.
+     * Send all collected messages. Clients which are in sync receive the values which changed since
+     * the last flush. Clients which are catching up additionally receive the next chunk of the
+     * values they missed. If they requested the version it is sent when the catch up is complete.
      *
      * @param updateAddress If this is not null it is sent before and after the flush with a value
      *            of 1 before and 0 after
      */
     public void flush (final String updateAddress)
     {
-        if (this.messages.isEmpty ())
-            return;
-
-        synchronized (this.messages)
+        synchronized (this.bundle)
         {
-            try
+            boolean isVersionSent = false;
+            for (final OpenSoundControlSubscriber subscriber: this.subscribers)
             {
+                final IOpenSoundControlClient client = subscriber.getClient ();
+                if (client.isBusy ())
+                {
+                    if (this.changedCount > 0)
+                        subscriber.missFlush (this.version);
+                    continue;
+                }
+
+                this.bundle.clear ();
+
+                // Values at or after the catch up position are sent by the scan below
+                final int position = subscriber.getCatchUpPosition ();
+                for (int i = 0; i < this.changedCount; i++)
+                {
+                    final int id = this.changedIds[i];
+                    if (id < position && subscriber.isSubscribed (id, this.addressRegistry))
+                        this.bundle.add (this.getMessage (id));
+                }
+
+                if (subscriber.isCatchingUp ())
+                    this.addCatchUp (subscriber);
+
+                if (!subscriber.isCatchingUp () && subscriber.isVersionRequested ())
+                {
+                    subscriber.setVersionRequested (false);
+                    isVersionSent = true;
+                    this.bundle.add (this.host.createOSCMessage (VERSION_ADDRESS, Collections.singletonList (Long.valueOf (this.version))));
+                }
+
+                if (this.bundle.isEmpty ())
+                    continue;
+
                 if (updateAddress != null)
                 {
-                    this.messages.add (0, this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (1))));
-                    this.messages.add (this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (0))));
+                    this.bundle.add (0, this.messageBuilder.start (updateAddress).addInt (1).build ());
+                    this.bundle.add (this.messageBuilder.start (updateAddress).addInt (0).build ());
                 }
 
-                this.logMessages (this.messages);
-                this.oscClient.sendBundle (this.messages);
+                try
+                {
+                    this.logMessages (this.bundle);
+                    client.sendBundle (this.bundle);
+                }
+                catch (final IOException ex)
+                {
+                    this.model.getHost ().error ("Could not send UDP message to " + subscriber.getId () + ".", ex);
+                }
             }
-            catch (final IOException ex)
+
+            this.bundle.clear ();
+
+            // Only start a new version if values changed or the current one was handed out to a
+            // client, in which case later changes need to have a higher version
+            if (this.changedCount > 0 || isVersionSent)
+                this.version++;
+            this.changedCount = 0;
+        }
+    }
+
+
+    /**
+     * Add the next chunk of the values which a client missed to the bundle.
+     *
+     * @param subscriber The client
+     */
+    private void addCatchUp (final OpenSoundControlSubscriber subscriber)
+    {
+        final long catchUpVersion = subscriber.getCatchUpVersion ();
+        final int end = this.cacheVersions.length;
+        int id = subscriber.getCatchUpPosition ();
+        int count = 0;
+        for (; id < end && count < MAX_CATCH_UP; id++)
+        {
+            if (this.cacheVersions[id] > catchUpVersion && subscriber.isSubscribed (id, this.addressRegistry))
             {
-                this.model.getHost ().error ("Could not send UDP message.", ex);
+                this.bundle.add (this.getMessage (id));
+                count++;
             }
-
-            this.messages.clear ();
         }
+        subscriber.setCatchUpPosition (id, end);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public OpenSoundControlAddress getAddress (final String address)
+    {
+        return this.addressRegistry.get (address);
     }
 
 
@@ -97,10 +363,9 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void fastSendOSC (final String address, final int [] numbers)
     {
-        final List<Object> params = new ArrayList<> ();
-        for (final int number: numbers)
-            params.add (Integer.valueOf (number));
-        this.fastSendOSC (address, params);
+        this.startFlush ();
+        this.sendOSC (this.addressRegistry.get (address), numbers, true);
+        this.flush ();
     }
 
 
@@ -114,7 +379,8 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
 
     protected void fastSendOSC (final String address, final List<Object> parameters)
     {
-        this.sendOSC (address, parameters, true);
+        this.startFlush ();
+        this.sendOSC (this.addressRegistry.get (address), parameters, true);
         this.flush ();
     }
 
@@ -123,10 +389,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSCColor (final String address, final double red, final double green, final double blue, final boolean dump)
     {
-        final int r = (int) Math.round (red * 255.0);
-        final int g = (int) Math.round (green * 255.0);
-        final int b = (int) Math.round (blue * 255.0);
-        this.sendOSC (address, "rgb(" + r + "," + g + "," + b + ")", dump);
+        this.sendOSCColor (this.addressRegistry.get (address), red, green, blue, dump);
     }
 
 
@@ -134,7 +397,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final boolean value, final boolean dump)
     {
-        this.sendOSC (address, Boolean.valueOf (value), dump);
+        this.sendOSC (this.addressRegistry.get (address), value, dump);
     }
 
 
@@ -142,8 +405,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final double value, final boolean dump)
     {
-        // Using float here since Double seems to be always received as 0 in Max.
-        this.sendOSC (address, Float.valueOf ((float) value), dump);
+        this.sendOSC (this.addressRegistry.get (address), value, dump);
     }
 
 
@@ -151,7 +413,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final int value, final boolean dump)
     {
-        this.sendOSC (address, Integer.valueOf (value), dump);
+        this.sendOSC (this.addressRegistry.get (address), value, dump);
     }
 
 
@@ -159,7 +421,66 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final String value, final boolean dump)
     {
-        this.sendOSC (address, (Object) StringUtils.fixASCII (value), dump);
+        this.sendOSC (this.addressRegistry.get (address), value, dump);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSCColor (final OpenSoundControlAddress address, final double red, final double green, final double blue, final boolean dump)
+    {
+        final int r = (int) Math.round (red * 255.0);
+        final int g = (int) Math.round (green * 255.0);
+        final int b = (int) Math.round (blue * 255.0);
+        this.updateCache (address, TYPE_COLOR, r << 16 | g << 8 | b, dump);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final OpenSoundControlAddress address, final boolean value, final boolean dump)
+    {
+        this.sendOSC (address, value ? 1 : 0, dump);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final OpenSoundControlAddress address, final double value, final boolean dump)
+    {
+        // Using float here since Double seems to be always received as 0 in Max.
+        this.updateCache (address, TYPE_FLOAT, Float.floatToIntBits ((float) value), dump);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final OpenSoundControlAddress address, final int value, final boolean dump)
+    {
+        this.updateCache (address, TYPE_INTEGER, value, dump);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final OpenSoundControlAddress address, final String value, final boolean dump)
+    {
+        // The original text is cached to convert it only if it has changed
+        this.updateCache (address, value, dump);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final OpenSoundControlAddress address, final int [] values, final boolean dump)
+    {
+        // Compare before copying the array to not create a copy on each call
+        final int id = address.getId ();
+        this.ensureCacheCapacity (id);
+        final Object cached = this.cacheObjects[id];
+        if (!dump && this.cacheTypes[id] == TYPE_OBJECT && cached instanceof int [] && Arrays.equals ((int []) cached, values))
+            return;
+        this.updateCache (address, values.clone (), true);
     }
 
 
@@ -169,43 +490,160 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      * messages list.The message will be sent when flush gets called.
      *
      * @param address The address of the OSC message
-     * @param value The value to send
+     * @param value The value(s) to send
      * @param dump True to dump (ignore cache)
      */
-    protected void sendOSC (final String address, final Object value, final boolean dump)
+    protected void sendOSC (final OpenSoundControlAddress address, final Object value, final boolean dump)
     {
-        this.sendOSC (address, address, value, value, dump);
+        this.updateCache (address, value, dump);
     }
 
 
     /**
-     * Tests if the value(s) of given message is identical to that of the cache. If this is not the
-     * case or if dump is true, the message is added to the messages list.The message will be sent
-     * when flush gets called.
+     * Tests if the primitive value is identical to the cached one of the address. If not, the cache
+     * is updated and the value is marked for sending.
      *
-     * @param cacheAddress The address under which to cache the message
-     * @param address The address of the OSC message
-     * @param testValue The value(s) to use for testing
-     * @param value The value(s) of the OSC message
+     * @param address The address of the value
+     * @param type The type of the value
+     * @param value The integer value, the bits of a float value or a packed color
      * @param dump True to dump (ignore cache)
      */
-    @SuppressWarnings("unchecked")
-    protected void sendOSC (final String cacheAddress, final String address, final Object testValue, final Object value, final boolean dump)
+    private void updateCache (final OpenSoundControlAddress address, final byte type, final int value, final boolean dump)
+    {
+        final int id = address.getId ();
+        this.ensureCacheCapacity (id);
+        if (!dump && this.cacheTypes[id] == type && this.cachePrimitives[id] == value)
+            return;
+        this.cacheTypes[id] = type;
+        this.cachePrimitives[id] = value;
+        this.cacheObjects[id] = null;
+        this.markChanged (id);
+    }
+
+
+    /**
+     * Tests if the object value is identical to the cached one of the address. If not, the cache is
+     * updated and the value is marked for sending.
+     *
+     * @param address The address of the value
+     * @param value The value, might be null
+     * @param dump True to dump (ignore cache)
+     */
+    private void updateCache (final OpenSoundControlAddress address, final Object value, final boolean dump)
+    {
+        final int id = address.getId ();
+        this.ensureCacheCapacity (id);
+        final byte type = this.cacheTypes[id];
+        if (!dump && (type == TYPE_NONE || type == TYPE_OBJECT) && compareValues (this.cacheObjects[id], value))
+            return;
+        this.cacheTypes[id] = TYPE_OBJECT;
+        this.cacheObjects[id] = value;
+        this.markChanged (id);
+    }
+
+
+    /**
+     * Mark the value of an address to be sent with the next flush.
+     *
+     * @param id The ID of the address
+     */
+    private void markChanged (final int id)
     {
-        if (!dump && compareValues (this.oldValues.get (cacheAddress), testValue))
+        this.cacheMessages[id] = null;
+        if (this.cacheVersions[id] == this.version)
             return;
-        this.oldValues.put (cacheAddress, testValue);
-        synchronized (this.messages)
+        this.cacheVersions[id] = this.version;
+        if (this.changedCount == this.changedIds.length)
+            this.changedIds = Arrays.copyOf (this.changedIds, 2 * this.changedCount);
+        this.changedIds[this.changedCount++] = id;
+    }
+
+
+    /**
+     * Get the message for the cached value of an address. The message is created only once and
+     * shared by all clients.
+     *
+     * @param id The ID of the address
+     * @return The message
+     */
+    @SuppressWarnings("unchecked")
+    private IOpenSoundControlMessage getMessage (final int id)
+    {
+        IOpenSoundControlMessage message = this.cacheMessages[id];
+        if (message != null)
+            return message;
+
+        final String address = this.addressRegistry.get (id).getAddress ();
+        final OpenSoundControlMessageBuilder builder = this.messageBuilder.start (address);
+        final Object value = this.cacheObjects[id];
+        switch (this.cacheTypes[id])
         {
-            final Object converted = convertBooleanToInt (value);
-            this.messages.add (this.host.createOSCMessage (address, converted instanceof List ? (List<Object>) converted : Collections.singletonList (converted)));
+            case TYPE_INTEGER:
+                message = builder.addInt (this.cachePrimitives[id]).build ();
+                break;
+
+            case TYPE_FLOAT:
+                message = builder.addFloat (Float.intBitsToFloat (this.cachePrimitives[id])).build ();
+                break;
+
+            case TYPE_COLOR:
+                final int rgb = this.cachePrimitives[id];
+                message = builder.addString ("rgb(" + (rgb >> 16) + "," + (rgb >> 8 & 0xFF) + "," + (rgb & 0xFF) + ")").build ();
+                break;
+
+            default:
+                if (value instanceof String)
+                    message = builder.addString (StringUtils.fixASCII ((String) value)).build ();
+                else if (value instanceof int [])
+                {
+                    for (final int number: (int []) value)
+                        builder.addInt (number);
+                    message = builder.build ();
+                }
+                else
+                    message = this.host.createOSCMessage (address, value instanceof List ? (List<Object>) value : Collections.singletonList (value));
+                break;
         }
+
+        this.cacheMessages[id] = message;
+        return message;
     }
 
 
-    protected boolean isConnected ()
+    /**
+     * Forget all cached values.
+     */
+    private void clearCache ()
     {
-        return this.oscClient != null;
+        Arrays.fill (this.cacheTypes, TYPE_NONE);
+        Arrays.fill (this.cacheObjects, null);
+        Arrays.fill (this.cacheVersions, 0);
+        Arrays.fill (this.cacheMessages, null);
+        this.changedCount = 0;
+    }
+
+
+    private void ensureCacheCapacity (final int id)
+    {
+        if (id < this.cacheTypes.length)
+            return;
+        final int size = Math.max (id + 1, 2 * this.cacheTypes.length);
+        this.cacheTypes = Arrays.copyOf (this.cacheTypes, size);
+        this.cachePrimitives = Arrays.copyOf (this.cachePrimitives, size);
+        this.cacheObjects = Arrays.copyOf (this.cacheObjects, size);
+        this.cacheVersions = Arrays.copyOf (this.cacheVersions, size);
+        this.cacheMessages = Arrays.copyOf (this.cacheMessages, size);
+    }
+
+
+    /**
+     * Test if at least one client is registered.
+     *
+     * @return True if connected
+     */
+    public boolean isConnected ()
+    {
+        return !this.subscribers.isEmpty ();
     }
 
 
@@ -258,14 +696,6 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     }
 
 
-    private static Object convertBooleanToInt (final Object value)
-    {
-        if (!(value instanceof Boolean))
-            return value;
-        return Integer.valueOf (((Boolean) value).booleanValue () ? 1 : 0);
-    }
-
-
     protected void logMessages (final List<IOpenSoundControlMessage> messages)
     {
         if (!this.configuration.shouldLogOutputCommands () || messages.isEmpty ())
@@ -282,12 +712,11 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
                 sb.append ('\n');
 
             sb.append ("Sending: ").append (address).append (" [ ");
-            final Object [] values = message.getValues ();
-            for (int i = 0; i < values.length; i++)
+            for (int i = 0; i < message.size (); i++)
             {
                 if (i > 0)
                     sb.append (", ");
-                sb.append (values[i]);
+                sb.append (message.getValue (i));
             }
             sb.append (" ]");
         }
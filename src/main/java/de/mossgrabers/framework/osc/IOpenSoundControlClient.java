@@ -31,4 +31,19 @@ public interface IOpenSoundControlClient
      * @throws IOException Could not send the messages
      */
     void sendBundle (List<IOpenSoundControlMessage> messages) throws IOException;
+
+
+    /**
+     * Test if the client still has a backlog of messages to send. If true, no further messages
+     * should be handed to the client for now.
+     *
+     * @return True if the client cannot keep up
+     */
+    boolean isBusy ();
+
+
+    /**
+     * Release all resources of the client. No further messages can be sent afterwards.
+     */
+    void close ();
 }
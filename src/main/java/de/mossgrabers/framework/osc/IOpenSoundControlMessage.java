@@ -20,9 +20,70 @@ public interface IOpenSoundControlMessage
 
 
     /**
-     * Get the values array.
+     * Get the values array. Creates a new array on each call, prefer the indexed accessors.
      *
      * @return The values array
      */
     Object [] getValues ();
+
+
+    /**
+     * Get the number of values.
+     *
+     * @return The number of values
+     */
+    int size ();
+
+
+    /**
+     * Get a value.
+     *
+     * @param index The index of the value
+     * @return The value, might be null
+     * @throws IndexOutOfBoundsException If there is no value at the index
+     */
+    Object getValue (int index);
+
+
+    /**
+     * Get a numeric value as an integer.
+     *
+     * @param index The index of the value
+     * @return The value
+     * @throws IndexOutOfBoundsException If there is no value at the index
+     * @throws NumberFormatException If the value is not a number
+     */
+    int getInt (int index);
+
+
+    /**
+     * Get a numeric value as a float.
+     *
+     * @param index The index of the value
+     * @return The value
+     * @throws IndexOutOfBoundsException If there is no value at the index
+     * @throws NumberFormatException If the value is not a number
+     */
+    float getFloat (int index);
+
+
+    /**
+     * Get a numeric value as a double.
+     *
+     * @param index The index of the value
+     * @return The value
+     * @throws IndexOutOfBoundsException If there is no value at the index
+     * @throws NumberFormatException If the value is not a number
+     */
+    double getDouble (int index);
+
+
+    /**
+     * Get a value as a string.
+     *
+     * @param index The index of the value
+     * @return The value converted to a string, null if the value is null
+     * @throws IndexOutOfBoundsException If there is no value at the index
+     */
+    String getString (int index);
 }
@@ -4,6 +4,9 @@
 
 package de.mossgrabers.framework.osc;
 
+import java.util.Collection;
+
+
 /**
  * Interface for sending OSC messages.
  *
@@ -19,6 +22,75 @@ public interface IOpenSoundControlWriter
     void flush (boolean dump);
 
 
+    /**
+     * Add a client which receives all messages. A new client receives the full state with the next
+     * flush. A client with the same ID is replaced.
+     *
+     * @param id The ID of the client, e.g. host:port
+     * @param client The client
+     */
+    void addClient (String id, IOpenSoundControlClient client);
+
+
+    /**
+     * Remove a client and close it.
+     *
+     * @param id The ID of the client
+     */
+    void removeClient (String id);
+
+
+    /**
+     * Test if a client with the given ID is registered.
+     *
+     * @param id The ID of the client
+     * @return True if registered
+     */
+    boolean hasClient (String id);
+
+
+    /**
+     * Restrict the addresses which are sent to a client. The client receives the current values of
+     * all newly subscribed addresses with the next flush.
+     *
+     * @param id The ID of the client
+     * @param patterns The address patterns, see {@link OpenSoundControlFilter}, an empty collection
+     *            subscribes to all addresses
+     */
+    void setSubscriptions (String id, Collection<String> patterns);
+
+
+    /**
+     * Send all values to the clients which changed after the given version. The values are sent in
+     * chunks with the next flushes. If a version was given, the clients receive the version of the
+     * flush which completes the catch up with the address /version.
+     *
+     * @param version The version which a client received last, 0 or an unknown version sends all
+     *            values, -1 sends all values but no version
+     */
+    void refresh (long version);
+
+
+    /**
+     * Test if at least one client subscribed to the address or one of its sub-addresses. Modules
+     * use this to skip computing values which are not sent anyway.
+     *
+     * @param address The address
+     * @return True if subscribed
+     */
+    boolean isSubscribed (OpenSoundControlAddress address);
+
+
+    /**
+     * Get the interned address for the given address string. Sub-addresses of the returned address
+     * are cached, which allows to send values without building the address strings again.
+     *
+     * @param address The full address, e.g. /track
+     * @return The interned address
+     */
+    OpenSoundControlAddress getAddress (String address);
+
+
     /**
      * Adds the message to the queue and calls flush.
      *
@@ -96,4 +168,78 @@ public interface IOpenSoundControlWriter
      * @param dump True to dump (ignore cache)
      */
     void sendOSC (String address, String value, boolean dump);
+
+
+    /**
+     * Send an OSC message with a color value. Tests if the value(s) of given message is identical
+     * to that of the cache. If this is not the case or if dump is true, the message is added to the
+     * messages list.The message will be sent when flush gets called.
+     *
+     * @param address The address of the OSC message
+     * @param red The red component of the color [0-1]
+     * @param green The green component of the color [0-1]
+     * @param blue The blue component of the color [0-1]
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSCColor (OpenSoundControlAddress address, double red, double green, double blue, boolean dump);
+
+
+    /**
+     * Send an OSC message with a boolean value. Tests if the value(s) of given message is identical
+     * to that of the cache. If this is not the case or if dump is true, the message is added to the
+     * messages list.The message will be sent when flush gets called.
+     *
+     * @param address The address of the OSC message
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (OpenSoundControlAddress address, boolean value, boolean dump);
+
+
+    /**
+     * Send an OSC message with a double value. Tests if the value(s) of given message is identical
+     * to that of the cache. If this is not the case or if dump is true, the message is added to the
+     * messages list.The message will be sent when flush gets called.
+     *
+     * @param address The address of the OSC message
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (OpenSoundControlAddress address, double value, boolean dump);
+
+
+    /**
+     * Send an OSC message with an integer value. Tests if the value(s) of given message is
+     * identical to that of the cache. If this is not the case or if dump is true, the message is
+     * added to the messages list.The message will be sent when flush gets called.
+     *
+     * @param address The address of the OSC message
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (OpenSoundControlAddress address, int value, boolean dump);
+
+
+    /**
+     * Send an OSC message with a string value. Tests if the value(s) of given message is identical
+     * to that of the cache. If this is not the case or if dump is true, the message is added to the
+     * messages list.The message will be sent when flush gets called.
+     *
+     * @param address The address of the OSC message
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (OpenSoundControlAddress address, String value, boolean dump);
+
+
+    /**
+     * Send an OSC message with several integer values, e.g. the VU meters of all tracks of a bank.
+     * Tests if the values are identical to those of the cache. If this is not the case or if dump is
+     * true, the message is sent with the next flush.
+     *
+     * @param address The address of the OSC message
+     * @param values The values to send, the array is copied
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (OpenSoundControlAddress address, int [] values, boolean dump);
 }
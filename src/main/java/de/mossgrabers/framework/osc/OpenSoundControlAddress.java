@@ -0,0 +1,115 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * An interned OSC address with a unique ID. The address string is built only once when the address
+ * is requested for the first time. Sub-addresses are cached, therefore walking down the address
+ * tree does not create any objects after the first flush.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public final class OpenSoundControlAddress
+{
+    private final OpenSoundControlAddressRegistry      registry;
+    private final String                               address;
+    private final int                                  id;
+    private final Map<String, OpenSoundControlAddress> children        = new HashMap<> ();
+    private OpenSoundControlAddress []                 indexedChildren = new OpenSoundControlAddress [0];
+
+
+    /**
+     * Constructor.
+     *
+     * @param registry The registry which created the address
+     * @param address The full address
+     * @param id The unique ID of the address
+     */
+    OpenSoundControlAddress (final OpenSoundControlAddressRegistry registry, final String address, final int id)
+    {
+        this.registry = registry;
+        this.address = address;
+        this.id = id;
+    }
+
+
+    /**
+     * Get the full address.
+     *
+     * @return The address, e.g. /track/1/volume
+     */
+    public String getAddress ()
+    {
+        return this.address;
+    }
+
+
+    /**
+     * Get the unique ID of the address.
+     *
+     * @return The ID, IDs are assigned in ascending order starting with 0
+     */
+    public int getId ()
+    {
+        return this.id;
+    }
+
+
+    /**
+     * Get a sub-address.
+     *
+     * @param segment The name of the sub-address, e.g. volume
+     * @return The address extended by a slash and the segment
+     */
+    public OpenSoundControlAddress get (final String segment)
+    {
+        synchronized (this.registry)
+        {
+            OpenSoundControlAddress child = this.children.get (segment);
+            if (child == null)
+            {
+                child = this.registry.get (this.address + "/" + segment);
+                this.children.put (segment, child);
+            }
+            return child;
+        }
+    }
+
+
+    /**
+     * Get a numbered sub-address, e.g. the address of a track in a bank.
+     *
+     * @param index The number of the sub-address, must not be negative
+     * @return The address extended by a slash and the number
+     */
+    public OpenSoundControlAddress get (final int index)
+    {
+        synchronized (this.registry)
+        {
+            if (index >= this.indexedChildren.length)
+                this.indexedChildren = Arrays.copyOf (this.indexedChildren, index + 1);
+            OpenSoundControlAddress child = this.indexedChildren[index];
+            if (child == null)
+            {
+                child = this.get (Integer.toString (index));
+                this.indexedChildren[index] = child;
+            }
+            return child;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        return this.address;
+    }
+}
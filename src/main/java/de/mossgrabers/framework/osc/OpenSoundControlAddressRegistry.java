@@ -0,0 +1,77 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Interns OSC addresses and assigns a unique integer ID to each of them. Since every address string
+ * exists only once, the IDs can be used as indices into caches.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlAddressRegistry
+{
+    private final Map<String, OpenSoundControlAddress> addressMap = new HashMap<> ();
+    private final List<OpenSoundControlAddress>        addresses  = new ArrayList<> ();
+    private final OpenSoundControlAddress              root       = this.get ("");
+
+
+    /**
+     * Get the root address. Its sub-addresses start with a slash.
+     *
+     * @return The root address
+     */
+    public OpenSoundControlAddress getRoot ()
+    {
+        return this.root;
+    }
+
+
+    /**
+     * Get the interned address for the given address string. Creates it if it does not exist yet.
+     *
+     * @param address The full address, e.g. /track/1/volume
+     * @return The interned address
+     */
+    public synchronized OpenSoundControlAddress get (final String address)
+    {
+        OpenSoundControlAddress oscAddress = this.addressMap.get (address);
+        if (oscAddress == null)
+        {
+            oscAddress = new OpenSoundControlAddress (this, address, this.addresses.size ());
+            this.addresses.add (oscAddress);
+            this.addressMap.put (address, oscAddress);
+        }
+        return oscAddress;
+    }
+
+
+    /**
+     * Get an address by its ID.
+     *
+     * @param id The ID of the address
+     * @return The address
+     */
+    public synchronized OpenSoundControlAddress get (final int id)
+    {
+        return this.addresses.get (id);
+    }
+
+
+    /**
+     * Get the number of registered addresses. All IDs are smaller than this number.
+     *
+     * @return The number of addresses
+     */
+    public synchronized int size ()
+    {
+        return this.addresses.size ();
+    }
+}
@@ -0,0 +1,227 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * Encodes OSC 1.0 messages and bundles directly into a byte buffer. Supported argument types are
+ * Integer, Long, Float, Double, String, Boolean, byte arrays and null. Other objects are sent as
+ * their string representation.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public final class OpenSoundControlEncoder
+{
+    /** The size of a bundle header: the #bundle string and the time tag. */
+    public static final int      BUNDLE_HEADER_SIZE   = 16;
+    /** The size of the length field which precedes each bundle element. */
+    public static final int      ELEMENT_SIZE_LENGTH  = 4;
+
+    private static final byte [] BUNDLE_TAG           =
+    {
+        '#',
+        'b',
+        'u',
+        'n',
+        'd',
+        'l',
+        'e',
+        0
+    };
+
+    /** The special time tag value which means 'immediately'. */
+    private static final long    TIME_TAG_IMMEDIATELY = 1;
+
+
+    /**
+     * Constructor, private due to helper class.
+     */
+    private OpenSoundControlEncoder ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Write the header of a bundle which is to be executed immediately.
+     *
+     * @param buffer Where to write the header to
+     * @throws BufferOverflowException If the buffer is too small
+     */
+    public static void encodeBundleHeader (final ByteBuffer buffer)
+    {
+        buffer.put (BUNDLE_TAG);
+        buffer.putLong (TIME_TAG_IMMEDIATELY);
+    }
+
+
+    /**
+     * Write an OSC message.
+     *
+     * @param buffer Where to write the message to
+     * @param message The message
+     * @throws BufferOverflowException If the buffer is too small
+     */
+    public static void encodeMessage (final ByteBuffer buffer, final IOpenSoundControlMessage message)
+    {
+        encodeString (buffer, message.getAddress ());
+
+        if (message instanceof OpenSoundControlPrimitiveMessage)
+        {
+            encodePrimitiveArguments (buffer, (OpenSoundControlPrimitiveMessage) message);
+            return;
+        }
+
+        // Type tags
+        final int size = message.size ();
+        buffer.put ((byte) ',');
+        for (int i = 0; i < size; i++)
+            buffer.put (getTypeTag (message.getValue (i)));
+        buffer.put ((byte) 0);
+        pad (buffer);
+
+        // Arguments
+        for (int i = 0; i < size; i++)
+            encodeArgument (buffer, message.getValue (i));
+    }
+
+
+    /**
+     * Write a bundle element which contains an OSC message. The element is the size of the message
+     * followed by the message.
+     *
+     * @param buffer Where to write the element to
+     * @param message The message
+     * @throws BufferOverflowException If the buffer is too small
+     */
+    public static void encodeBundleElement (final ByteBuffer buffer, final IOpenSoundControlMessage message)
+    {
+        final int start = buffer.position ();
+        buffer.position (start + ELEMENT_SIZE_LENGTH);
+        encodeMessage (buffer, message);
+        buffer.putInt (start, buffer.position () - start - ELEMENT_SIZE_LENGTH);
+    }
+
+
+    /**
+     * Write the type tags and arguments of a message without boxing its values.
+     *
+     * @param buffer Where to write the arguments to
+     * @param message The message
+     */
+    private static void encodePrimitiveArguments (final ByteBuffer buffer, final OpenSoundControlPrimitiveMessage message)
+    {
+        final int size = message.size ();
+        buffer.put ((byte) ',');
+        for (int i = 0; i < size; i++)
+            buffer.put (message.getTypeTag (i));
+        buffer.put ((byte) 0);
+        pad (buffer);
+
+        for (int i = 0; i < size; i++)
+        {
+            switch (message.getTypeTag (i))
+            {
+                case OpenSoundControlPrimitiveMessage.TYPE_INTEGER:
+                    buffer.putInt (message.getInt (i));
+                    break;
+                case OpenSoundControlPrimitiveMessage.TYPE_FLOAT:
+                    buffer.putFloat (message.getFloat (i));
+                    break;
+                default:
+                    encodeString (buffer, message.getString (i));
+                    break;
+            }
+        }
+    }
+
+
+    private static byte getTypeTag (final Object value)
+    {
+        if (value == null)
+            return 'N';
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte)
+            return 'i';
+        if (value instanceof Long)
+            return 'h';
+        if (value instanceof Float)
+            return 'f';
+        if (value instanceof Double)
+            return 'd';
+        if (value instanceof Boolean)
+            return ((Boolean) value).booleanValue () ? (byte) 'T' : (byte) 'F';
+        if (value instanceof byte [])
+            return 'b';
+        return 's';
+    }
+
+
+    private static void encodeArgument (final ByteBuffer buffer, final Object value)
+    {
+        if (value == null || value instanceof Boolean)
+            return;
+
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte)
+            buffer.putInt (((Number) value).intValue ());
+        else if (value instanceof Long)
+            buffer.putLong (((Long) value).longValue ());
+        else if (value instanceof Float)
+            buffer.putFloat (((Float) value).floatValue ());
+        else if (value instanceof Double)
+            buffer.putDouble (((Double) value).doubleValue ());
+        else if (value instanceof byte [])
+        {
+            final byte [] blob = (byte []) value;
+            buffer.putInt (blob.length);
+            buffer.put (blob);
+            pad (buffer);
+        }
+        else
+            encodeString (buffer, value.toString ());
+    }
+
+
+    /**
+     * Write a zero terminated string which is padded to a multiple of 4 bytes. ASCII text is written
+     * without creating any objects, other text is encoded as UTF-8.
+     *
+     * @param buffer Where to write the string to
+     * @param text The text to write
+     */
+    private static void encodeString (final ByteBuffer buffer, final String text)
+    {
+        final int length = text.length ();
+        final int start = buffer.position ();
+        for (int i = 0; i < length; i++)
+        {
+            final char c = text.charAt (i);
+            if (c > 127)
+            {
+                buffer.position (start);
+                buffer.put (text.getBytes (StandardCharsets.UTF_8));
+                break;
+            }
+            buffer.put ((byte) c);
+        }
+        buffer.put ((byte) 0);
+        pad (buffer);
+    }
+
+
+    /**
+     * Fill the buffer with zeros up to the next multiple of 4 bytes.
+     *
+     * @param buffer The buffer to align
+     */
+    private static void pad (final ByteBuffer buffer)
+    {
+        while ((buffer.position () & 3) != 0)
+            buffer.put ((byte) 0);
+    }
+}
@@ -0,0 +1,118 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+
+/**
+ * A set of address patterns a client subscribed to. A pattern selects an address and all of its
+ * sub-addresses, e.g. /transport selects /transport/play as well. A segment consisting of a '*'
+ * matches any segment, e.g. /track/&#42;/volume selects the volume of all tracks.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public final class OpenSoundControlFilter
+{
+    private static final String WILDCARD = "*";
+
+    private final String [] []  patterns;
+
+
+    /**
+     * Constructor.
+     *
+     * @param patterns The address patterns, empty patterns are ignored
+     */
+    public OpenSoundControlFilter (final Collection<String> patterns)
+    {
+        final List<String []> parsed = new ArrayList<> ();
+        for (final String pattern: patterns)
+        {
+            String trimmed = pattern.trim ();
+            if (trimmed.startsWith ("/"))
+                trimmed = trimmed.substring (1);
+            if (!trimmed.isEmpty ())
+                parsed.add (trimmed.split ("/"));
+        }
+        this.patterns = parsed.toArray (new String [parsed.size ()] []);
+    }
+
+
+    /**
+     * Test if the filter does not contain any pattern.
+     *
+     * @return True if empty
+     */
+    public boolean isEmpty ()
+    {
+        return this.patterns.length == 0;
+    }
+
+
+    /**
+     * Test if an address is selected by one of the patterns.
+     *
+     * @param address The address, e.g. /track/1/volume
+     * @return True if selected
+     */
+    public boolean matches (final String address)
+    {
+        for (final String [] pattern: this.patterns)
+        {
+            if (matches (pattern, address, false))
+                return true;
+        }
+        return false;
+    }
+
+
+    /**
+     * Test if an address or at least one of its sub-addresses is selected by one of the patterns.
+     * E.g. /track/1 is relevant for the pattern /track/&#42;/volume.
+     *
+     * @param address The address, e.g. /track/1
+     * @return True if relevant
+     */
+    public boolean isRelevant (final String address)
+    {
+        for (final String [] pattern: this.patterns)
+        {
+            if (matches (pattern, address, true))
+                return true;
+        }
+        return false;
+    }
+
+
+    /**
+     * Compare the segments of a pattern with the segments of an address.
+     *
+     * @param pattern The segments of the pattern
+     * @param address The address
+     * @param isAncestorAllowed If true, the address may end before the pattern
+     * @return True if the address matches
+     */
+    private static boolean matches (final String [] pattern, final String address, final boolean isAncestorAllowed)
+    {
+        final int length = address.length ();
+        int start = length > 0 && address.charAt (0) == '/' ? 1 : 0;
+        for (final String segment: pattern)
+        {
+            if (start >= length)
+                return isAncestorAllowed;
+
+            int end = address.indexOf ('/', start);
+            if (end < 0)
+                end = length;
+            if (!WILDCARD.equals (segment) && (segment.length () != end - start || !address.startsWith (segment, start)))
+                return false;
+            start = end + 1;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,112 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.Arrays;
+
+
+/**
+ * Builds OSC messages without boxing integer and float values. The values are collected in
+ * reusable buffers, therefore building a message only creates the message and its value arrays.
+ * The builder is not thread-safe.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlMessageBuilder
+{
+    private String    address;
+    private byte []   types    = new byte [8];
+    private int []    numbers  = new int [8];
+    private String [] texts    = new String [8];
+    private int       size     = 0;
+    private boolean   hasTexts = false;
+
+
+    /**
+     * Start a new message. Values added before are discarded.
+     *
+     * @param address The OSC address
+     * @return The builder
+     */
+    public OpenSoundControlMessageBuilder start (final String address)
+    {
+        this.address = address;
+        this.size = 0;
+        if (this.hasTexts)
+        {
+            Arrays.fill (this.texts, null);
+            this.hasTexts = false;
+        }
+        return this;
+    }
+
+
+    /**
+     * Add an integer value.
+     *
+     * @param value The value
+     * @return The builder
+     */
+    public OpenSoundControlMessageBuilder addInt (final int value)
+    {
+        this.add (OpenSoundControlPrimitiveMessage.TYPE_INTEGER, value);
+        return this;
+    }
+
+
+    /**
+     * Add a float value.
+     *
+     * @param value The value
+     * @return The builder
+     */
+    public OpenSoundControlMessageBuilder addFloat (final float value)
+    {
+        this.add (OpenSoundControlPrimitiveMessage.TYPE_FLOAT, Float.floatToIntBits (value));
+        return this;
+    }
+
+
+    /**
+     * Add a string value.
+     *
+     * @param value The value, must not be null
+     * @return The builder
+     */
+    public OpenSoundControlMessageBuilder addString (final String value)
+    {
+        this.add (OpenSoundControlPrimitiveMessage.TYPE_STRING, 0);
+        this.texts[this.size - 1] = value;
+        this.hasTexts = true;
+        return this;
+    }
+
+
+    /**
+     * Create the message from the added values.
+     *
+     * @return The message
+     */
+    public IOpenSoundControlMessage build ()
+    {
+        final String [] messageTexts = this.hasTexts ? Arrays.copyOf (this.texts, this.size) : null;
+        return new OpenSoundControlPrimitiveMessage (this.address, Arrays.copyOf (this.types, this.size), Arrays.copyOf (this.numbers, this.size), messageTexts);
+    }
+
+
+    private void add (final byte type, final int number)
+    {
+        if (this.size == this.types.length)
+        {
+            final int capacity = 2 * this.size;
+            this.types = Arrays.copyOf (this.types, capacity);
+            this.numbers = Arrays.copyOf (this.numbers, capacity);
+            this.texts = Arrays.copyOf (this.texts, capacity);
+        }
+        this.types[this.size] = type;
+        this.numbers[this.size] = number;
+        this.size++;
+    }
+}
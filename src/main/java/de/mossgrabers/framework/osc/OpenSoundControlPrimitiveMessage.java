@@ -0,0 +1,151 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+/**
+ * An OSC message which stores integer and float values unboxed. Created by
+ * {@link OpenSoundControlMessageBuilder}.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+final class OpenSoundControlPrimitiveMessage implements IOpenSoundControlMessage
+{
+    static final byte       TYPE_INTEGER = 'i';
+    static final byte       TYPE_FLOAT   = 'f';
+    static final byte       TYPE_STRING  = 's';
+
+    private final String    address;
+    private final byte []   types;
+    private final int []    numbers;
+    private final String [] texts;
+
+
+    /**
+     * Constructor.
+     *
+     * @param address The OSC address
+     * @param types The OSC type tags of the values
+     * @param numbers The integer values and the bits of the float values
+     * @param texts The string values, might be null if there are none
+     */
+    OpenSoundControlPrimitiveMessage (final String address, final byte [] types, final int [] numbers, final String [] texts)
+    {
+        this.address = address;
+        this.types = types;
+        this.numbers = numbers;
+        this.texts = texts;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getAddress ()
+    {
+        return this.address;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public Object [] getValues ()
+    {
+        final Object [] values = new Object [this.types.length];
+        for (int i = 0; i < values.length; i++)
+            values[i] = this.getValue (i);
+        return values;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int size ()
+    {
+        return this.types.length;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public Object getValue (final int index)
+    {
+        switch (this.types[index])
+        {
+            case TYPE_INTEGER:
+                return Integer.valueOf (this.numbers[index]);
+            case TYPE_FLOAT:
+                return Float.valueOf (Float.intBitsToFloat (this.numbers[index]));
+            default:
+                return this.texts[index];
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getInt (final int index)
+    {
+        switch (this.types[index])
+        {
+            case TYPE_INTEGER:
+                return this.numbers[index];
+            case TYPE_FLOAT:
+                return (int) Float.intBitsToFloat (this.numbers[index]);
+            default:
+                throw new NumberFormatException ("For input string: \"" + this.texts[index] + "\"");
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public float getFloat (final int index)
+    {
+        switch (this.types[index])
+        {
+            case TYPE_INTEGER:
+                return this.numbers[index];
+            case TYPE_FLOAT:
+                return Float.intBitsToFloat (this.numbers[index]);
+            default:
+                throw new NumberFormatException ("For input string: \"" + this.texts[index] + "\"");
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getDouble (final int index)
+    {
+        return this.getFloat (index);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getString (final int index)
+    {
+        switch (this.types[index])
+        {
+            case TYPE_INTEGER:
+                return Integer.toString (this.numbers[index]);
+            case TYPE_FLOAT:
+                return Float.toString (Float.intBitsToFloat (this.numbers[index]));
+            default:
+                return this.texts[index];
+        }
+    }
+
+
+    /**
+     * Get the OSC type tag of a value.
+     *
+     * @param index The index of the value
+     * @return The type tag
+     */
+    byte getTypeTag (final int index)
+    {
+        return this.types[index];
+    }
+}
@@ -0,0 +1,221 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.Arrays;
+
+
+/**
+ * A client which receives the OSC messages of a writer and the state of how far it is updated. A
+ * client which misses values (it is new, was busy or requested a refresh) catches up by scanning
+ * the cache of the writer in chunks. During the catch up it is missing the values with an ID equal
+ * or above the catch up position and a version above the catch up version.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+class OpenSoundControlSubscriber
+{
+    private static final byte             MATCH_UNKNOWN   = 0;
+    private static final byte             MATCH_YES       = 1;
+    private static final byte             MATCH_NO        = 2;
+    private static final int              NO_CATCH_UP     = Integer.MAX_VALUE;
+    private static final long             NO_MISSED       = Long.MAX_VALUE;
+
+    private final String                  id;
+    private final IOpenSoundControlClient client;
+    private long                          catchUpVersion  = 0;
+    private int                           catchUpPosition = 0;
+    private long                          missedVersion   = NO_MISSED;
+    private boolean                       versionRequested;
+    private OpenSoundControlFilter        filter;
+    private byte []                       matches         = new byte [0];
+
+
+    /**
+     * Constructor.
+     *
+     * @param id The ID of the client, e.g. host:port
+     * @param client The client
+     */
+    OpenSoundControlSubscriber (final String id, final IOpenSoundControlClient client)
+    {
+        this.id = id;
+        this.client = client;
+    }
+
+
+    /**
+     * Get the ID of the client.
+     *
+     * @return The ID
+     */
+    String getId ()
+    {
+        return this.id;
+    }
+
+
+    /**
+     * Get the client.
+     *
+     * @return The client
+     */
+    IOpenSoundControlClient getClient ()
+    {
+        return this.client;
+    }
+
+
+    /**
+     * Test if the client is catching up.
+     *
+     * @return True if there are values which the client is missing
+     */
+    boolean isCatchingUp ()
+    {
+        return this.catchUpPosition != NO_CATCH_UP;
+    }
+
+
+    /**
+     * Get the version after which the client is missing values.
+     *
+     * @return The version
+     */
+    long getCatchUpVersion ()
+    {
+        return this.catchUpVersion;
+    }
+
+
+    /**
+     * Get the ID from which the cache is scanned next.
+     *
+     * @return The ID
+     */
+    int getCatchUpPosition ()
+    {
+        return this.catchUpPosition;
+    }
+
+
+    /**
+     * Set the ID from which the cache is scanned next. If the end of the cache is reached the catch
+     * up is finished, or starts again if the client missed a flush in the meantime.
+     *
+     * @param position The ID
+     * @param end The size of the cache
+     */
+    void setCatchUpPosition (final int position, final int end)
+    {
+        if (position < end)
+        {
+            this.catchUpPosition = position;
+            return;
+        }
+
+        if (this.missedVersion == NO_MISSED)
+        {
+            this.catchUpPosition = NO_CATCH_UP;
+            return;
+        }
+
+        this.catchUpVersion = this.missedVersion - 1;
+        this.catchUpPosition = 0;
+        this.missedVersion = NO_MISSED;
+    }
+
+
+    /**
+     * Start to catch up all values which changed after the given version.
+     *
+     * @param version The version
+     */
+    void startCatchUp (final long version)
+    {
+        this.catchUpVersion = this.isCatchingUp () ? Math.min (this.catchUpVersion, version) : version;
+        this.catchUpPosition = 0;
+    }
+
+
+    /**
+     * Test if the client requested to receive the version of the flush which completes the catch up.
+     *
+     * @return True if requested
+     */
+    boolean isVersionRequested ()
+    {
+        return this.versionRequested;
+    }
+
+
+    /**
+     * Set if the client requested to receive the version of the flush which completes the catch up.
+     *
+     * @param versionRequested True if requested
+     */
+    void setVersionRequested (final boolean versionRequested)
+    {
+        this.versionRequested = versionRequested;
+    }
+
+
+    /**
+     * The client did not receive the values which changed in a flush.
+     *
+     * @param version The version of the flush
+     */
+    void missFlush (final long version)
+    {
+        // The values after the catch up position are scanned anyway
+        if (this.isCatchingUp ())
+            this.missedVersion = Math.min (this.missedVersion, version);
+        else
+            this.startCatchUp (version - 1);
+    }
+
+
+    /**
+     * Get the addresses the client subscribed to.
+     *
+     * @return The filter or null if the client receives all addresses
+     */
+    OpenSoundControlFilter getFilter ()
+    {
+        return this.filter;
+    }
+
+
+    /**
+     * Set the addresses the client subscribed to.
+     *
+     * @param filter The filter or null to receive all addresses
+     */
+    void setFilter (final OpenSoundControlFilter filter)
+    {
+        this.filter = filter == null || filter.isEmpty () ? null : filter;
+        this.matches = new byte [0];
+    }
+
+
+    /**
+     * Test if the client subscribed to an address. The result is cached by the ID of the address.
+     *
+     * @param id The ID of the address
+     * @param registry The registry to look up the address
+     * @return True if the address is sent to the client
+     */
+    boolean isSubscribed (final int id, final OpenSoundControlAddressRegistry registry)
+    {
+        if (this.filter == null)
+            return true;
+
+        if (id >= this.matches.length)
+            this.matches = Arrays.copyOf (this.matches, Math.max (id + 1, registry.size ()));
+        if (this.matches[id] == MATCH_UNKNOWN)
+            this.matches[id] = this.filter.matches (registry.get (id).getAddress ()) ? MATCH_YES : MATCH_NO;
+        return this.matches[id] == MATCH_YES;
+    }
+}
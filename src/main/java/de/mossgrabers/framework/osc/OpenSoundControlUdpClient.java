@@ -0,0 +1,295 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.LockSupport;
+
+
+/**
+ * Sends OSC messages as UDP packets. The messages are encoded on the calling thread into a reusable
+ * buffer. Bundles are closed as soon as they reach the maximum packet size. The packets are sent
+ * from a background thread, which paces them to not overrun slow clients. Therefore, the caller is
+ * never blocked.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlUdpClient implements IOpenSoundControlClient
+{
+    /** The payload of a UDP packet which fits into an Ethernet frame without fragmentation. */
+    public static final int                 DEFAULT_MAX_PACKET_SIZE       = 1472;
+    /** Clients like Open Stage Control cannot keep up with a faster rate. */
+    public static final int                 DEFAULT_BYTES_PER_MILLISECOND = 1000;
+
+    private static final int                MAX_UDP_PAYLOAD               = 65507;
+    private static final int                MAX_POOLED_PACKETS            = 64;
+    private static final int                MAX_BACKLOG_PACKETS           = 256;
+    private static final int                MAX_QUEUED_PACKETS            = 4 * MAX_BACKLOG_PACKETS;
+
+    private final InetSocketAddress         target;
+    private final DatagramChannel           channel;
+    private final int                       maxPacketSize;
+    private final long                      nanosPerByte;
+
+    private final ByteBuffer                encodeBuffer                  = ByteBuffer.allocate (MAX_UDP_PAYLOAD);
+    private final BlockingQueue<ByteBuffer> packets                       = new LinkedBlockingQueue<> (MAX_QUEUED_PACKETS);
+    private final Queue<ByteBuffer>         freePackets                   = new ConcurrentLinkedQueue<> ();
+    private final ExecutorService           sender                        = Executors.newSingleThreadExecutor ();
+    private volatile IOException            sendError;
+    private Runnable                        closeHandler;
+
+
+    /**
+     * Constructor. Uses the default packet size and rate.
+     *
+     * @param host The host name or IP address of the OSC server
+     * @param port The port of the OSC server
+     * @throws IOException Could not open the UDP channel
+     */
+    public OpenSoundControlUdpClient (final String host, final int port) throws IOException
+    {
+        this (host, port, DEFAULT_MAX_PACKET_SIZE, DEFAULT_BYTES_PER_MILLISECOND);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host name or IP address of the OSC server
+     * @param port The port of the OSC server
+     * @param maxPacketSize Bundles are closed when they reach this number of bytes
+     * @param bytesPerMillisecond The maximum number of bytes to send per millisecond
+     * @throws IOException Could not open the UDP channel
+     */
+    public OpenSoundControlUdpClient (final String host, final int port, final int maxPacketSize, final int bytesPerMillisecond) throws IOException
+    {
+        this.target = new InetSocketAddress (host, port);
+        if (this.target.isUnresolved ())
+            throw new IOException ("Unknown host: " + host);
+        this.maxPacketSize = Math.min (maxPacketSize, MAX_UDP_PAYLOAD);
+        this.nanosPerByte = Math.max (1, 1000000L / bytesPerMillisecond);
+        this.channel = DatagramChannel.open ();
+        this.sender.execute (this::sendPackets);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendMessage (final IOpenSoundControlMessage message) throws IOException
+    {
+        this.checkSendError ();
+
+        synchronized (this.encodeBuffer)
+        {
+            this.encodeBuffer.clear ();
+            try
+            {
+                OpenSoundControlEncoder.encodeMessage (this.encodeBuffer, message);
+            }
+            catch (final BufferOverflowException ex)
+            {
+                throw new IOException ("OSC message is too large: " + message.getAddress (), ex);
+            }
+            this.queuePacket ();
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendBundle (final List<IOpenSoundControlMessage> messages) throws IOException
+    {
+        this.checkSendError ();
+
+        synchronized (this.encodeBuffer)
+        {
+            this.startBundle ();
+            int count = 0;
+            for (final IOpenSoundControlMessage message: messages)
+            {
+                final int start = this.encodeBuffer.position ();
+                final boolean fits = this.encodeElement (message) && this.encodeBuffer.position () <= this.maxPacketSize;
+                if (!fits && count > 0)
+                {
+                    // Close the bundle without the message and start the next one with it
+                    this.encodeBuffer.position (start);
+                    this.queuePacket ();
+                    this.startBundle ();
+                    count = 0;
+                    if (!this.encodeElement (message))
+                        throw new IOException ("OSC message is too large: " + message.getAddress ());
+                }
+                else if (!fits && this.encodeBuffer.position () == start)
+                    throw new IOException ("OSC message is too large: " + message.getAddress ());
+                count++;
+            }
+            if (count > 0)
+                this.queuePacket ();
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isBusy ()
+    {
+        return this.packets.size () > MAX_BACKLOG_PACKETS;
+    }
+
+
+    /**
+     * Set a handler which is called when the client is closed.
+     *
+     * @param closeHandler The handler
+     */
+    public void setCloseHandler (final Runnable closeHandler)
+    {
+        this.closeHandler = closeHandler;
+    }
+
+
+    /**
+     * Stop the sender thread and close the UDP channel. Packets which are not yet sent are dropped.
+     */
+    @Override
+    public void close ()
+    {
+        this.sender.shutdownNow ();
+        try
+        {
+            this.channel.close ();
+        }
+        catch (final IOException ex)
+        {
+            // Ignore, nothing to do on shutdown
+        }
+
+        if (this.closeHandler != null)
+            this.closeHandler.run ();
+    }
+
+
+    private void startBundle ()
+    {
+        this.encodeBuffer.clear ();
+        OpenSoundControlEncoder.encodeBundleHeader (this.encodeBuffer);
+    }
+
+
+    /**
+     * Encode a message as a bundle element.
+     *
+     * @param message The message
+     * @return False if the message did not fit into the buffer, the buffer position is restored in
+     *         that case
+     */
+    private boolean encodeElement (final IOpenSoundControlMessage message)
+    {
+        final int start = this.encodeBuffer.position ();
+        try
+        {
+            OpenSoundControlEncoder.encodeBundleElement (this.encodeBuffer, message);
+            return true;
+        }
+        catch (final BufferOverflowException ex)
+        {
+            this.encodeBuffer.position (start);
+            return false;
+        }
+    }
+
+
+    /**
+     * Copy the content of the encode buffer into a packet and queue it for sending. If the queue is
+     * full, the oldest packets are dropped since the client cannot keep up anyway.
+     */
+    private void queuePacket ()
+    {
+        this.encodeBuffer.flip ();
+        final int size = this.encodeBuffer.remaining ();
+        ByteBuffer packet = this.freePackets.poll ();
+        if (packet == null || packet.capacity () < size)
+            packet = ByteBuffer.allocateDirect (Math.max (size, this.maxPacketSize));
+        packet.clear ();
+        packet.put (this.encodeBuffer);
+        packet.flip ();
+        while (!this.packets.offer (packet))
+        {
+            final ByteBuffer stale = this.packets.poll ();
+            if (stale != null && this.freePackets.size () < MAX_POOLED_PACKETS)
+                this.freePackets.add (stale);
+        }
+    }
+
+
+    /**
+     * The loop of the sender thread. Sends the queued packets and waits after each packet as long
+     * as it takes to send its bytes with the configured rate.
+     */
+    private void sendPackets ()
+    {
+        long nextSendTime = System.nanoTime ();
+        while (!Thread.currentThread ().isInterrupted ())
+        {
+            final ByteBuffer packet;
+            try
+            {
+                packet = this.packets.take ();
+            }
+            catch (final InterruptedException ex)
+            {
+                Thread.currentThread ().interrupt ();
+                return;
+            }
+
+            final long now = System.nanoTime ();
+            if (nextSendTime > now)
+                LockSupport.parkNanos (nextSendTime - now);
+            else
+                nextSendTime = now;
+            nextSendTime += packet.remaining () * this.nanosPerByte;
+
+            try
+            {
+                this.channel.send (packet, this.target);
+            }
+            catch (final IOException ex)
+            {
+                if (!this.channel.isOpen ())
+                    return;
+                this.sendError = ex;
+            }
+
+            if (this.freePackets.size () < MAX_POOLED_PACKETS)
+                this.freePackets.add (packet);
+        }
+    }
+
+
+    /**
+     * Report an error of the sender thread to the caller.
+     *
+     * @throws IOException The error which happened while sending a previous packet
+     */
+    private void checkSendError () throws IOException
+    {
+        final IOException error = this.sendError;
+        if (error == null)
+            return;
+        this.sendError = null;
+        throw error;
+    }
+}
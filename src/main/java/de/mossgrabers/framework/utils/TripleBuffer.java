@@ -0,0 +1,100 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+
+/**
+ * Lock-free hand-over of data between one producer and one consumer thread. The producer fills the
+ * write buffer and publishes it. The consumer takes only the latest published buffer, buffers which
+ * were published but not taken in the meantime are dropped. Neither side ever waits for the other.
+ *
+ * @param <T> The type of the buffers
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TripleBuffer<T>
+{
+    private static final int    INDEX_MASK = 0x03;
+    private static final int    FRESH      = 0x04;
+
+    private final Object []     buffers    = new Object [3];
+    /** The index of the buffer in the middle and a flag if it was not yet taken by the consumer. */
+    private final AtomicInteger middle     = new AtomicInteger (1);
+    private int                 writeIndex = 0;
+    private int                 readIndex  = 2;
+
+
+    /**
+     * Constructor.
+     *
+     * @param factory Creates the three buffers
+     */
+    public TripleBuffer (final Supplier<T> factory)
+    {
+        for (int i = 0; i < this.buffers.length; i++)
+            this.buffers[i] = factory.get ();
+    }
+
+
+    /**
+     * Get the buffer to fill. Must only be called from the producer thread.
+     *
+     * @return The buffer
+     */
+    public T getWriteBuffer ()
+    {
+        return this.getBuffer (this.writeIndex);
+    }
+
+
+    /**
+     * Publish the write buffer. Must only be called from the producer thread. Afterwards a
+     * different write buffer is available which contains an older state.
+     *
+     * @return True if a previously published buffer was not taken by the consumer and got dropped
+     */
+    public boolean publish ()
+    {
+        final int old = this.middle.getAndSet (this.writeIndex | FRESH);
+        this.writeIndex = old & INDEX_MASK;
+        return (old & FRESH) > 0;
+    }
+
+
+    /**
+     * Take the latest published buffer. Must only be called from the consumer thread.
+     *
+     * @return The latest buffer or null if nothing was published since the last call
+     */
+    public T take ()
+    {
+        if ((this.middle.get () & FRESH) == 0)
+            return null;
+        this.readIndex = this.middle.getAndSet (this.readIndex) & INDEX_MASK;
+        return this.getBuffer (this.readIndex);
+    }
+
+
+    /**
+     * Get the buffer which was taken last by the consumer. Must only be called from the consumer
+     * thread.
+     *
+     * @return The buffer
+     */
+    public T getReadBuffer ()
+    {
+        return this.getBuffer (this.readIndex);
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private T getBuffer (final int index)
+    {
+        return (T) this.buffers[index];
+    }
+}
@@ -125,7 +125,7 @@ public abstract class AbstractDrumLaneView<S extends IControlSurface<C>, C exten
                 duplicateButton.setConsumed ();
                 final IStepInfo noteStep = clip.getStep (channel, step, note);
                 if (noteStep.getState () == IStepInfo.NOTE_START)
-                    this.copyNote = noteStep;
+                    this.copyNote = noteStep.createCopy ();
                 else if (this.copyNote != null)
                     clip.setStep (channel, step, note, this.copyNote);
             }
@@ -371,17 +371,7 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
      */
     protected int getStep (final INoteClip clip, final int col)
     {
-        int result = IStepInfo.NOTE_OFF;
-        final int editMidiChannel = this.configuration.getMidiEditChannel ();
-        for (int row = 0; row < 128; row++)
-        {
-            final int r = clip.getStep (editMidiChannel, col, row).getState ();
-            if (r == IStepInfo.NOTE_START)
-                return r;
-            if (r == IStepInfo.NOTE_CONTINUE)
-                result = IStepInfo.NOTE_CONTINUE;
-        }
-        return result;
+        return clip.getStepState (this.configuration.getMidiEditChannel (), col);
     }
 
 